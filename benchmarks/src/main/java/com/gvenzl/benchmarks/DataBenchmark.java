@@ -0,0 +1,60 @@
+package com.gvenzl.benchmarks;
+
+import com.gvenzl.data.Coffee;
+import com.gvenzl.data.Population;
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.StaticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the individual lookups a sale is assembled from.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataBenchmark {
+
+    private RandomSource random;
+    private Population population;
+    private int customer;
+
+    @Setup
+    public void setup() {
+        random = new RandomSource(42);
+        population = Population.get();
+    }
+
+    @Benchmark
+    public Coffee.CoffeeEntry getCoffee() {
+        return Coffee.getCoffee(random);
+    }
+
+    @Benchmark
+    public int sampleCustomer() {
+        return population.sampleCustomer(random);
+    }
+
+    @Benchmark
+    public int sampleStore() {
+        return population.sampleStore(customer++ % population.customers(), random);
+    }
+
+    @Benchmark
+    public String getStaticData() {
+        return StaticData.getStaticData(true);
+    }
+}
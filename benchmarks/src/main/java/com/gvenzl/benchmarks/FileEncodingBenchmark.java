@@ -0,0 +1,83 @@
+package com.gvenzl.benchmarks;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.JsonSaleSerializer;
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.SaleGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a generated sale into a line of the output file: the
+ * former regex minification of the pretty printed document versus serializing
+ * the sale as compact JSON into the file sink's buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileEncodingBenchmark {
+
+    private static final String PRETTY_SALE =
+            "{\n" +
+            "\"metadata\": null,\n" +
+            " \"date\": \"2020-05-04 08:15:42\",\n" +
+            " \"loyaltyCardNo\":1850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\"," +
+            "\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"},\n" +
+            "  \"salesAmount\": 5.6,\n" +
+            "  \"order\": [" +
+            "  {                                     \n" +
+            "    \"item\": \"Espresso\",             \n" +
+            "    \"size\": \"small\",                \n" +
+            "    \"salesAmount\": 2.10,             \n" +
+            "    \"coffeeUsedGram\": 10            \n" +
+            "  }," +
+            "  {                                     \n" +
+            "    \"item\": \"Cappuccino\",           \n" +
+            "    \"size\": \"medium\",               \n" +
+            "    \"salesAmount\": 3.45,             \n" +
+            "    \"coffeeUsedGram\": 15            \n" +
+            "  }]\n" +
+            "}";
+
+    private SaleGenerator generator;
+    private JsonSaleSerializer serializer;
+    private JsonBuffer sale;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        generator = new SaleGenerator(new RandomSource(42), false);
+        serializer = new JsonSaleSerializer(false, false, false);
+        sale = new JsonBuffer(1024);
+        buffer = ByteBuffer.allocate(4 * 1024 * 1024);
+    }
+
+    @Benchmark
+    public String regexMinification() {
+        return PRETTY_SALE.replaceAll("\n", "").replaceAll("\r", "").replaceAll("  ", "") + "\n";
+    }
+
+    @Benchmark
+    public ByteBuffer compactDocument() {
+        sale.reset();
+        serializer.write(generator.generateSale(), sale);
+        if (sale.length() + 1 > buffer.remaining()) {
+            buffer.clear();
+        }
+        return buffer.put(sale.array(), 0, sale.length()).put((byte) '\n');
+    }
+}
@@ -0,0 +1,45 @@
+package com.gvenzl.benchmarks;
+
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.Sale;
+import com.gvenzl.data.SaleGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of generating one sale, without formatting it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean historicData;
+
+    private SaleGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = new SaleGenerator(new RandomSource(42), historicData);
+    }
+
+    @Benchmark
+    public Sale generateSale() {
+        return generator.generateSale();
+    }
+}
@@ -0,0 +1,119 @@
+package com.gvenzl.benchmarks;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.Sale;
+import com.gvenzl.data.SaleGenerator;
+import com.gvenzl.data.SaleSerializer;
+import com.gvenzl.sink.DocumentBinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side cost of binding a document per {@code tableColumnDataType},
+ * measured against an in-memory statement that consumes every bound value
+ * the way the driver would, without a database round trip. {@code bind}
+ * binds an already serialized document, {@code serializeAndBind} also
+ * serializes the sale first, e.g. into OSON for the JSON data type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcBindBenchmark {
+
+    @Param({"VARCHAR2", "CLOB", "BLOB", "JSON"})
+    public String dataType;
+
+    @Param({"false", "true"})
+    public boolean staticData;
+
+    private Sale sale;
+    private SaleSerializer serializer;
+    private JsonBuffer buffer;
+    private byte[] document;
+    private DocumentBinder binder;
+    private PreparedStatement stmt;
+    private long consumed;
+    // Reused, so that reading streams does not show up in the allocations of the binders
+    private final char[] chars = new char[8192];
+    private final byte[] bytes = new byte[8192];
+
+    @Setup
+    public void setup() {
+        binder = DocumentBinder.forType(dataType);
+        sale = new SaleGenerator(new RandomSource(42), false).generateSale();
+        serializer = SaleSerializer.forName(binder.format(), staticData);
+        buffer = new JsonBuffer(4096);
+        serializer.write(sale, buffer);
+        document = buffer.toByteArray();
+        stmt = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    if (method.getName().startsWith("set")) {
+                        consumed += consume(args[1]);
+                    }
+                    return null;
+                });
+    }
+
+    private long consume(Object value) throws Exception {
+        long length = 0;
+        if (value instanceof String) {
+            // The driver copies the chars out to encode them, like it reads them from a Reader
+            String text = (String) value;
+            for (int i = 0; i < text.length(); i += chars.length) {
+                int end = Math.min(text.length(), i + chars.length);
+                text.getChars(i, end, chars, 0);
+                length += end - i;
+            }
+        }
+        else if (value instanceof byte[]) {
+            length = ((byte[]) value).length;
+        }
+        else if (value instanceof Reader) {
+            for (int n; (n = ((Reader) value).read(chars)) > 0; ) {
+                length += n;
+            }
+        }
+        else if (value instanceof InputStream) {
+            for (int n; (n = ((InputStream) value).read(bytes)) > 0; ) {
+                length += n;
+            }
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long bind() throws SQLException {
+        binder.bind(stmt, 1, document);
+        stmt.addBatch();
+        return consumed;
+    }
+
+    @Benchmark
+    public long serializeAndBind() throws SQLException {
+        buffer.reset();
+        serializer.write(sale, buffer);
+        binder.bind(stmt, 1, buffer.toByteArray());
+        stmt.addBatch();
+        return consumed;
+    }
+}
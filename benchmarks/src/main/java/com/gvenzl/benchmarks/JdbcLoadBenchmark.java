@@ -0,0 +1,99 @@
+package com.gvenzl.benchmarks;
+
+import com.gvenzl.DatabasePool;
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.Sale;
+import com.gvenzl.data.SaleGenerator;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.Order;
+import com.gvenzl.sink.JdbcSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of the {@link JdbcSink} against a real database, comparing
+ * conventional batches with direct-path array inserts. The connection and
+ * table are passed as system properties, e.g.
+ * {@code -Djdbc.url=localhost:1521/FREEPDB1 -Djdbc.username=test -Djdbc.password=test
+ * -Djdbc.table=purchase_orders -Djdbc.column=doc -Djdbc.dataType=BLOB}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JdbcLoadBenchmark {
+
+    private static final int SALES = 4096;
+
+    @Param({"conventional", "direct"})
+    public String insertMode;
+
+    @Param({"100", "1000"})
+    public int rowsPerRoundTrip;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private DatabasePool pool;
+    private JdbcSink sink;
+    private Sale[] sales;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        String url = System.getProperty("jdbc.url", "");
+        if (url.isEmpty()) {
+            throw new IllegalStateException("Pass the database to load into with -Djdbc.url, -Djdbc.username, " +
+                    "-Djdbc.password, -Djdbc.table and -Djdbc.column.");
+        }
+
+        Properties props = new Properties();
+        props.setProperty("jdbcURL", url);
+        props.setProperty("tnsName", "");
+        props.setProperty("cloudCredentialsFile", "");
+        props.setProperty("username", System.getProperty("jdbc.username", ""));
+        props.setProperty("password", System.getProperty("jdbc.password", ""));
+        props.setProperty("tableName", System.getProperty("jdbc.table", "purchase_orders"));
+        props.setProperty("tableColumnName", System.getProperty("jdbc.column", "doc"));
+        props.setProperty("tableColumnDataType", System.getProperty("jdbc.dataType", "VARCHAR2"));
+        props.setProperty("threads", "1");
+        props.setProperty("batchSize", String.valueOf(batchSize));
+        props.setProperty("rowsPerRoundTrip", String.valueOf(rowsPerRoundTrip));
+        props.setProperty("jdbcInsertMode", insertMode);
+
+        pool = new DatabasePool(props);
+        sink = new JdbcSink(props, pool, new SinkMetrics("jdbc"));
+
+        SaleGenerator generator = new SaleGenerator(new RandomSource(42), false);
+        sales = new Sale[SALES];
+        for (int i = 0; i < SALES; i++) {
+            sales[i] = generator.generateSale();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        sink.flush();
+        pool.close();
+    }
+
+    @Benchmark
+    public void insert() throws Exception {
+        sink.write(new Order(sales[next++ & (SALES - 1)], System.nanoTime()));
+    }
+}
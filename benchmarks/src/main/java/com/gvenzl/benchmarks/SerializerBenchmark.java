@@ -0,0 +1,63 @@
+package com.gvenzl.benchmarks;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.Sale;
+import com.gvenzl.data.SaleGenerator;
+import com.gvenzl.data.SaleSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing a generated sale per output format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializerBenchmark {
+
+    private static final int SALES = 1024;
+
+    @Param({"json", "pretty", "csv", "oson", "binary"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean staticData;
+
+    private SaleSerializer serializer;
+    private Sale[] sales;
+    private JsonBuffer buffer;
+    private int next;
+
+    @Setup
+    public void setup() {
+        serializer = SaleSerializer.forName(format, staticData);
+        SaleGenerator generator = new SaleGenerator(new RandomSource(42), false);
+        sales = new Sale[SALES];
+        for (int i = 0; i < SALES; i++) {
+            sales[i] = generator.generateSale();
+        }
+        buffer = new JsonBuffer(16 * 1024);
+    }
+
+    @Benchmark
+    public JsonBuffer serialize() {
+        buffer.reset();
+        serializer.write(sales[next++ & (SALES - 1)], buffer);
+        return buffer;
+    }
+}
@@ -14,16 +14,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.SecureRandom;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 import java.util.Enumeration;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 public class CloudConnectionManager {
 
-    public static Connection getConnection(File fUrl,String user,String password, String serviceName, String ) throws IOException, SQLException{
+    /**
+     * Extracts the Cloud Credentials file into a temporary wallet directory and
+     * points the driver's TNS admin, key and trust store properties to it.
+     * Connections can be opened for as long as the directory exists.
+     * @return the wallet directory
+     */
+    public static String configureWallet(File fUrl) throws IOException {
         Path tmpDir = Files.createTempDirectory("oracle_cloud_config");
     
         Path tmpZip = tmpDir.resolve("temp.zip");
@@ -38,6 +41,7 @@ public class CloudConnectionManager {
             Path p = tmpDir.resolve(name);
             Files.copy(zf.getInputStream(entry), p);
         }
+        zf.close();
     
         String pathToWallet = tmpDir.toFile().getAbsolutePath();
     
@@ -68,12 +72,13 @@ public class CloudConnectionManager {
         System.setProperty("javax.net.ssl.trustStorePassword",passwd);
         System.setProperty("javax.net.ssl.keyStore",keyPath);
         System.setProperty("javax.net.ssl.keyStorePassword",passwd);
-    
-        Connection conn = DriverManager.getConnection("jdbc:oracle:thin:@" + serviceName, user,password);
-        zf.close();
-        deleteFile(tmpDir.toFile());
-        return conn;
-     }
+
+        return pathToWallet;
+    }
+
+    public static void deleteWallet(String pathToWallet) throws IOException {
+        deleteFile(new File(pathToWallet));
+    }
      
     private static String generateRandomSecurePassword() {
         return new BigInteger(130, new SecureRandom()).toString(32);
@@ -88,7 +93,7 @@ public class CloudConnectionManager {
             throw new FileNotFoundException("Failed to delete file: " + f);
     }
 
-    private static void setProxy(String path, String proxy) {
+    private static void setProxy(String path, String proxyHostPort) throws IOException {
         Path file = Paths.get( ( path + File.separatorChar + "tnsnames.ora"));
         Charset charset = StandardCharsets.UTF_8;
 
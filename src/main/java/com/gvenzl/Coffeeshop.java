@@ -1,12 +1,36 @@
 package com.gvenzl;
 
+import com.gvenzl.data.DemandModel;
+import com.gvenzl.data.HistoricClock;
+import com.gvenzl.data.Population;
+import com.gvenzl.data.RandomSource;
+import com.gvenzl.data.SaleGenerator;
+import com.gvenzl.dataset.Dataset;
+import com.gvenzl.dataset.DatasetWriter;
+import com.gvenzl.metrics.MetricsReporter;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.SinkStage;
+import com.gvenzl.sink.DocumentBinder;
+import com.gvenzl.sink.FileSink;
+import com.gvenzl.sink.JdbcSink;
+import com.gvenzl.sink.RelationalSink;
+import com.gvenzl.sink.RestSink;
+import com.gvenzl.sink.SodaSink;
+
+import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 public class Coffeeshop {
 
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 60;
+
     private final Properties props;
 
     public static void main(String[] args) {
@@ -33,16 +57,248 @@ public class Coffeeshop {
 
     private void run() throws Exception {
 
-        ArrayList<Thread> threads = new ArrayList<>();
-        for (int i=0; i < Integer.valueOf(props.getProperty("threads")); i++) {
-            Thread t = new Thread(new Worker(props));
-            t.start();
-            threads.add(t);
+        int threads = Integer.valueOf(props.getProperty("threads"));
+        int queueCapacity = getInt("queueCapacity", 8192);
+        boolean virtualThreads = props.getProperty("virtualThreads", "false").equalsIgnoreCase("true");
+        String seed = props.getProperty("seed", "").trim();
+        long rootSeed = seed.isEmpty() ? System.nanoTime() ^ System.currentTimeMillis() : Long.valueOf(seed);
+        System.out.println("Using seed " + rootSeed);
+        RandomSource random = new RandomSource(rootSeed);
+
+        // Before any sink, as the serializers encode the stores up front
+        Population population = Population.configure(props, random.split());
+        System.out.println("Population of " + population.customers() + " customers and " +
+                population.stores() + " stores.");
+        DemandModel.configure(props);
+
+        // Checked before any sink is started, so that a misconfiguration does not leave their threads running
+        long maxOrders = Long.valueOf(props.getProperty("maxOrders", "0"));
+        boolean bulkLoad = props.getProperty("bulkLoad", "false").equalsIgnoreCase("true");
+        if (bulkLoad && maxOrders <= 0) {
+            throw new IllegalArgumentException("Bulk load requires the amount of orders to be set via maxOrders.");
+        }
+        boolean rateControlled = !bulkLoad && RateSchedule.isEnabled(props);
+        if (rateControlled) {
+            RateSchedule.checkSteps(props);
+        }
+        String historicData = props.getProperty("historicData", "false");
+        HistoricClock historic = null;
+        if (historicData.equalsIgnoreCase("true") || historicData.equalsIgnoreCase("yes")) {
+            historic = new HistoricClock(props, maxOrders);
+            System.out.println("Historic data from " + historic + ".");
+        }
+
+        String datasetMode = props.getProperty("datasetMode", "none").trim();
+        String datasetFile = props.getProperty("datasetFile", "").trim();
+        Dataset dataset = null;
+        if (datasetMode.equalsIgnoreCase("generate")) {
+            long start = System.nanoTime();
+            long bytes = DatasetWriter.write(props, new SaleGenerator(random.split(), historic), maxOrders);
+            System.out.println(String.format(Locale.ROOT, "Generated %d orders into %s, %.1f MB in %.1f seconds.",
+                    maxOrders, datasetFile, bytes / 1e6, (System.nanoTime() - start) / 1e9));
+            return;
+        }
+        else if (datasetMode.equalsIgnoreCase("replay")) {
+            dataset = Dataset.open(datasetFile);
+            checkReplayFormats(dataset.getFormat());
+            System.out.println("Replaying " + dataset.size() + " " + dataset.getFormat() + " orders from " +
+                    datasetFile + ".");
+        }
+        else if (!datasetMode.equalsIgnoreCase("none")) {
+            throw new IllegalArgumentException("Unknown datasetMode: " + datasetMode);
+        }
+
+        ArrayList<SinkStage> stages = new ArrayList<>();
+        FileSink fileSink = null;
+        DatabasePool pool = null;
+        RestSink restSink = null;
+        MetricsReporter reporter;
+        // Nothing runs before everything is set up, so a failure only has to release what has been opened
+        try {
+            if (!props.getProperty("outputFileName").isEmpty()) {
+                SinkMetrics metrics = new SinkMetrics("file");
+                FileSink sink = new FileSink(props, metrics);
+                fileSink = sink;
+                stages.add(new SinkStage("file", queueCapacity, 1, metrics, () -> sink,
+                        Threads.factory(virtualThreads, "file-sink-")));
+            }
+
+            if (!props.getProperty("jdbcURL").isEmpty() || !props.getProperty("tnsName").isEmpty()) {
+                DatabasePool dbPool = new DatabasePool(props);
+                pool = dbPool;
+                // Consumers beyond the pool size would time out waiting for a session and lose their batch
+                int jdbcThreads = getInt("jdbcThreads", dbPool.getMaxSessions());
+                if (jdbcThreads > dbPool.getMaxSessions()) {
+                    throw new IllegalArgumentException("jdbcThreads " + jdbcThreads +
+                            " exceeds maxSessions " + dbPool.getMaxSessions());
+                }
+                String databaseSink = props.getProperty("databaseSink", "table");
+                if (databaseSink.equalsIgnoreCase("soda")) {
+                    SodaSink.createCollection(props, dbPool);
+                    SinkMetrics metrics = new SinkMetrics("soda");
+                    stages.add(new SinkStage("soda", queueCapacity, jdbcThreads, metrics,
+                            () -> new SodaSink(props, dbPool, metrics), Threads.factory(virtualThreads, "soda-sink-")));
+                }
+                else if (databaseSink.equalsIgnoreCase("table")) {
+                    SinkMetrics metrics = new SinkMetrics("jdbc");
+                    stages.add(new SinkStage("jdbc", queueCapacity, jdbcThreads, metrics,
+                            () -> new JdbcSink(props, dbPool, metrics), Threads.factory(virtualThreads, "jdbc-sink-")));
+                }
+                else if (databaseSink.equalsIgnoreCase("relational")) {
+                    SinkMetrics metrics = new SinkMetrics("relational");
+                    stages.add(new SinkStage("relational", queueCapacity, jdbcThreads, metrics,
+                            () -> new RelationalSink(props, dbPool, metrics), Threads.factory(virtualThreads, "relational-sink-")));
+                }
+                else {
+                    throw new IllegalArgumentException("Unknown database sink: " + databaseSink);
+                }
+            }
+
+            if (!props.getProperty("restURL").isEmpty()) {
+                SinkMetrics metrics = new SinkMetrics("rest");
+                RestSink sink = new RestSink(props, metrics);
+                restSink = sink;
+                int restThreads = getInt("restThreads", 1);
+                stages.add(new SinkStage("rest", queueCapacity, restThreads, metrics, () -> sink,
+                        Threads.factory(virtualThreads, "rest-sink-")));
+            }
+
+            if (stages.isEmpty()) {
+                throw new IllegalArgumentException("No load instructions have been passed on. " +
+                        "Please specify either a REST URL, JDBC URL, TNS name, or file location.");
+            }
+
+            reporter = new MetricsReporter(props, stages);
+        } catch (Exception e) {
+            closeQuietly(fileSink);
+            closeQuietly(restSink);
+            closeQuietly(pool);
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        RunControl control = new RunControl(props, start);
+        if (bulkLoad) {
+            System.out.println("Bulk loading " + control.getMaxOrders() + " orders with " + threads + " threads.");
         }
 
-        for (Thread t : threads) {
-            t.join();
+        // A worker failing stops all of them, so that the run ends orderly instead of silently generating less
+        ThreadFactory workerThreads = Threads.factory(virtualThreads, "worker-");
+        Thread.UncaughtExceptionHandler supervisor = (t, e) -> {
+            System.out.println("Error in " + t.getName() + ", stopping: " + e);
+            control.requestStop();
+        };
+        ArrayList<Thread> workers = new ArrayList<>();
+        for (int i=0; i < threads; i++) {
+            RateSchedule schedule = rateControlled ? new RateSchedule(props, start, i, threads) : null;
+            long workerOrders = control.partition(i, threads);
+            Dataset.Cursor replay = dataset != null ? dataset.cursor(i, threads) : null;
+            Thread t = workerThreads.newThread(new Worker(props, stages, control, random.split(), schedule,
+                    workerOrders, bulkLoad, replay));
+            t.setUncaughtExceptionHandler(supervisor);
+            workers.add(t);
         }
+        if (virtualThreads) {
+            System.out.println("Running " + threads + " workers on virtual threads.");
+        }
+
+        // On Ctrl-C or kill stop the workers and let the main thread drain and close the sinks
+        CountDownLatch finished = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            control.requestStop();
+            for (Thread t : workers) {
+                t.interrupt();
+            }
+            try {
+                if (!finished.await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    System.out.println("Sinks did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+                }
+            } catch (InterruptedException e) {
+                // Exit right away
+            }
+        }, "coffeeshop-shutdown"));
+
+        try {
+            for (SinkStage stage : stages) {
+                stage.start();
+            }
+            for (Thread t : workers) {
+                t.start();
+            }
+            for (Thread t : workers) {
+                t.join();
+            }
+            double generationSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(String.format(Locale.ROOT, "Generated %d orders in %.1f seconds, %.0f orders/s.",
+                    control.getGenerated(), generationSeconds, control.getGenerated() / generationSeconds));
+
+            // Consumers drain their queues, execute outstanding batches and commit before they exit
+            for (SinkStage stage : stages) {
+                stage.close();
+            }
+            if (fileSink != null) {
+                fileSink.close();
+            }
+            if (restSink != null) {
+                restSink.close();
+            }
+            reporter.close();
+            reporter.printSummary(System.nanoTime() - start);
+
+            if (pool != null) {
+                pool.close();
+            }
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Replayed documents are loaded as they are, so every sink has to take the format of the dataset.
+     */
+    private void checkReplayFormats(String format) {
+        if (!props.getProperty("outputFileName").isEmpty()) {
+            requireFormat(format, "file", props.getProperty("outputFileFormat", "json"));
+        }
+        if (!props.getProperty("jdbcURL").isEmpty() || !props.getProperty("tnsName").isEmpty()) {
+            String databaseSink = props.getProperty("databaseSink", "table");
+            if (databaseSink.equalsIgnoreCase("relational")) {
+                throw new IllegalArgumentException("The relational sink loads sales, not documents, " +
+                        "and cannot replay a dataset.");
+            }
+            else if (databaseSink.equalsIgnoreCase("soda")) {
+                requireFormat(format, "soda", "json");
+            }
+            else {
+                requireFormat(format, "jdbc",
+                        DocumentBinder.forType(props.getProperty("tableColumnDataType", "VARCHAR2")).format());
+            }
+        }
+        if (!props.getProperty("restURL").isEmpty()) {
+            requireFormat(format, "rest", props.getProperty("restFormat", "json"));
+        }
+    }
+
+    private static void requireFormat(String format, String sink, String required) {
+        if (!format.equalsIgnoreCase(required.trim())) {
+            throw new IllegalArgumentException("The " + sink + " sink requires " + required +
+                    " documents but the dataset has " + format + " documents.");
+        }
+    }
+
+    private static void closeQuietly(Closeable resource) {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                System.out.println("Could not close " + resource.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private int getInt(String key, int defaultValue) {
+        String value = props.getProperty(key, "").trim();
+        return value.isEmpty() ? defaultValue : Integer.valueOf(value);
     }
 
     private static void printHelp() {
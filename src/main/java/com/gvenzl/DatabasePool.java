@@ -0,0 +1,99 @@
+package com.gvenzl;
+
+import oracle.ucp.UniversalConnectionPoolException;
+import oracle.ucp.admin.UniversalConnectionPoolManager;
+import oracle.ucp.admin.UniversalConnectionPoolManagerImpl;
+import oracle.ucp.jdbc.PoolDataSource;
+import oracle.ucp.jdbc.PoolDataSourceFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * UCP connection pool shared by all workers. Sessions are borrowed only for
+ * the duration of a batch, so the amount of database sessions is sized by
+ * {@code minSessions}/{@code maxSessions} independently of {@code threads}.
+ */
+public class DatabasePool implements Closeable {
+
+    private static final String POOL_NAME = "coffeeshop";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 10;
+
+    private final PoolDataSource pds;
+    private final int maxSessions;
+    private String pathToWallet;
+
+    public DatabasePool(Properties props) throws IOException, SQLException {
+
+        String url = props.getProperty("jdbcURL");
+        if (url.isEmpty()) {
+            url = props.getProperty("tnsName");
+        }
+
+        String cloudCredentialsFile = props.getProperty("cloudCredentialsFile");
+        if (!cloudCredentialsFile.isEmpty()) {
+            pathToWallet = CloudConnectionManager.configureWallet(new File(cloudCredentialsFile));
+        }
+
+        int minSessions = Integer.valueOf(props.getProperty("minSessions", "1"));
+        maxSessions = Integer.valueOf(props.getProperty("maxSessions", props.getProperty("threads")));
+
+        pds = PoolDataSourceFactory.getPoolDataSource();
+        pds.setConnectionPoolName(POOL_NAME);
+        pds.setConnectionFactoryClassName("oracle.jdbc.pool.OracleDataSource");
+        pds.setURL("jdbc:oracle:thin:@" + url);
+        pds.setUser(props.getProperty("username"));
+        pds.setPassword(props.getProperty("password"));
+        pds.setInitialPoolSize(minSessions);
+        pds.setMinPoolSize(minSessions);
+        pds.setMaxPoolSize(maxSessions);
+        pds.setValidateConnectionOnBorrow(true);
+        pds.setMaxStatements(10);
+
+        // Borrow once so that connection problems surface at startup
+        try (Connection conn = pds.getConnection()) {
+            if (!conn.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Database connection is not valid.");
+            }
+            System.out.println("Connected to " + (pathToWallet != null ? "Cloud" : "Oracle") + " Database.");
+        } catch (SQLException e) {
+            try {
+                close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Borrows a connection with auto commit disabled. Closing it returns it to the pool.
+     */
+    public Connection getConnection() throws SQLException {
+        Connection conn = pds.getConnection();
+        conn.setAutoCommit(false);
+        return conn;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            UniversalConnectionPoolManager mgr = UniversalConnectionPoolManagerImpl.getUniversalConnectionPoolManager();
+            mgr.destroyConnectionPool(POOL_NAME);
+        } catch (UniversalConnectionPoolException e) {
+            throw new IOException("Could not close connection pool: " + e.getMessage(), e);
+        } finally {
+            if (pathToWallet != null) {
+                CloudConnectionManager.deleteWallet(pathToWallet);
+            }
+        }
+    }
+}
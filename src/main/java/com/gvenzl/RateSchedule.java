@@ -0,0 +1,125 @@
+package com.gvenzl;
+
+import com.gvenzl.data.DemandModel;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop schedule of one worker's share of {@code targetRate} orders per
+ * second. Every order has an intended start time that only depends on the
+ * rate profile, never on how long earlier orders took; a worker that falls
+ * behind generates without pausing until it has caught up.
+ * <p>
+ * The rate can be ramped up linearly over {@code rampUpSeconds} and changed
+ * in steps via {@code rateSteps}, a list of {@code <second>:<rate>} pairs,
+ * e.g. {@code 60:2000,120:5000}, with rates greater than 0. With a {@code demandTimeScale} the rate
+ * follows the hourly and weekday curves of the {@link DemandModel}, running
+ * through them that many times faster than real time from the current time.
+ */
+public class RateSchedule {
+
+    private static final double MIN_RATE_FRACTION = 0.01;
+
+    private final long start;
+    private final double share;
+    private final double targetRate;
+    private final long rampUpNanos;
+    private final long[] stepStarts;
+    private final double[] stepRates;
+    private final DemandModel demand = DemandModel.get();
+    private final double demandTimeScale;
+    private final long startMillis;
+
+    private long next;
+
+    /**
+     * @param worker index of the worker, used to stagger the workers' schedules
+     * @param workers amount of workers sharing the rate
+     */
+    public RateSchedule(Properties props, long start, int worker, int workers) {
+        this.start = start;
+        this.share = 1.0 / workers;
+        this.targetRate = Double.valueOf(props.getProperty("targetRate"));
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos(Long.valueOf(props.getProperty("rampUpSeconds", "0")));
+        this.demandTimeScale = Double.valueOf(props.getProperty("demandTimeScale", "0"));
+        this.startMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        String[] pairs = stepPairs(props);
+        stepStarts = new long[pairs.length];
+        stepRates = new double[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            String[] pair = pairs[i].split(":");
+            stepStarts[i] = TimeUnit.SECONDS.toNanos(Long.valueOf(pair[0].trim()));
+            stepRates[i] = Double.valueOf(pair[1].trim());
+        }
+
+        next = start + (long) (worker * 1e9 / rateAt(0));
+    }
+
+    /**
+     * Checks the {@code rateSteps}, so that they can be rejected before anything has been started.
+     */
+    public static void checkSteps(Properties props) {
+        stepPairs(props);
+    }
+
+    private static String[] stepPairs(Properties props) {
+        String steps = props.getProperty("rateSteps", "").trim();
+        String[] pairs = steps.isEmpty() ? new String[0] : steps.split(",");
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = pairs[i].trim();
+            String[] pair = pairs[i].split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("rateSteps has to be a list of <second>:<rate> pairs: " + steps);
+            }
+            Long.valueOf(pair[0].trim());
+            // The interval between orders is the inverse of the rate, so a rate of 0 would never schedule the next one
+            if (!(Double.valueOf(pair[1].trim()) > 0)) {
+                throw new IllegalArgumentException("rateSteps rates have to be greater than 0: " + pairs[i]);
+            }
+        }
+        return pairs;
+    }
+
+    public static boolean isEnabled(Properties props) {
+        String rate = props.getProperty("targetRate", "").trim();
+        return !rate.isEmpty() && Double.valueOf(rate) > 0;
+    }
+
+    /**
+     * Waits until the intended start of the next order, if it lies in the future.
+     * @return the intended start of the next order in {@link System#nanoTime()}
+     */
+    public long awaitNext() throws InterruptedException {
+        long intended = next;
+        next += (long) (1e9 / (rateAt(intended - start) * share));
+
+        long wait;
+        while ((wait = intended - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return intended;
+    }
+
+    private double rateAt(long elapsed) {
+        double rate = targetRate;
+        for (int i = 0; i < stepStarts.length; i++) {
+            if (elapsed >= stepStarts[i]) {
+                rate = stepRates[i];
+            }
+        }
+        if (elapsed < rampUpNanos) {
+            rate = rate * Math.max(MIN_RATE_FRACTION, (double) elapsed / rampUpNanos);
+        }
+        if (demandTimeScale > 0) {
+            long simulated = startMillis + (long) (elapsed / 1e6 * demandTimeScale);
+            rate = rate * Math.max(MIN_RATE_FRACTION, demand.demandFactor(simulated));
+        }
+        return rate;
+    }
+}
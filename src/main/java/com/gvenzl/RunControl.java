@@ -0,0 +1,76 @@
+package com.gvenzl;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides when the workers stop generating: on request, e.g. from the
+ * shutdown hook, once {@code maxOrders} orders have been generated across
+ * all workers, or after {@code durationSeconds}.
+ * <p>
+ * Every worker gets a fixed share of {@code maxOrders} up front instead of
+ * claiming orders from a shared counter, so that which worker generates how
+ * many orders, and with that the data, does not depend on thread scheduling.
+ */
+public class RunControl {
+
+    /** The share of a worker when there is no maxOrders, to generate until stopped */
+    public static final long UNLIMITED = -1;
+
+    private final long maxOrders;
+    private final long deadline;
+    private final LongAdder generated = new LongAdder();
+    private volatile boolean stopRequested = false;
+
+    public RunControl(Properties props, long start) {
+        maxOrders = Long.valueOf(props.getProperty("maxOrders", "0"));
+        long duration = Long.valueOf(props.getProperty("durationSeconds", "0"));
+        deadline = duration > 0 ? start + TimeUnit.SECONDS.toNanos(duration) : 0;
+    }
+
+    /**
+     * @return false once a stop has been requested or the duration is over
+     */
+    public boolean isRunning() {
+        if (stopRequested) {
+            return false;
+        }
+        if (deadline != 0 && System.nanoTime() - deadline >= 0) {
+            stopRequested = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the orders worker {@code worker} of {@code workers} has to generate, which is 0 for
+     * workers beyond maxOrders, or {@link #UNLIMITED} without maxOrders
+     */
+    public long partition(int worker, int workers) {
+        if (maxOrders <= 0) {
+            return UNLIMITED;
+        }
+        return maxOrders / workers + (worker < maxOrders % workers ? 1 : 0);
+    }
+
+    public long getMaxOrders() {
+        return maxOrders;
+    }
+
+    public void addGenerated(long count) {
+        generated.add(count);
+    }
+
+    public long getGenerated() {
+        return generated.sum();
+    }
+
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+}
@@ -0,0 +1,36 @@
+package com.gvenzl;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the generator and sink consumer threads, as platform threads or,
+ * with {@code virtualThreads}, as virtual threads. Virtual threads are looked
+ * up reflectively, so that the build stays on Java 8 and they are only
+ * required at runtime on Java 21 and later.
+ */
+public final class Threads {
+
+    private Threads() {
+    }
+
+    public static ThreadFactory factory(boolean virtual, String prefix) {
+        if (virtual) {
+            return virtualFactory(prefix);
+        }
+        AtomicInteger number = new AtomicInteger();
+        return r -> new Thread(r, prefix + number.getAndIncrement());
+    }
+
+    private static ThreadFactory virtualFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Virtual threads require Java 21 or later, running on Java " +
+                    System.getProperty("java.version") + ".");
+        }
+    }
+}
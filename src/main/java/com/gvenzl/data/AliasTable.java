@@ -0,0 +1,76 @@
+package com.gvenzl.data;
+
+/**
+ * Samples an index in proportion to a set of weights in constant time,
+ * using Vose's alias method. The table takes 12 bytes per weight and is
+ * safe to share between threads once built.
+ */
+public final class AliasTable {
+
+	private final double[] probability;
+	private final int[] alias;
+
+	/**
+	 * @param weights the non-negative weights, which are scaled in place into the table's probabilities
+	 */
+	public AliasTable(double[] weights) {
+		int n = weights.length;
+		probability = weights;
+		alias = new int[n];
+
+		double sum = 0;
+		for (double w : weights) {
+			sum += w;
+		}
+
+		// Scaled to an average of 1, the indexes below 1 are kept from the front
+		// of the work list, the ones above from the back
+		int[] work = new int[n];
+		int small = 0;
+		int large = n;
+		for (int i = 0; i < n; i++) {
+			probability[i] = weights[i] * n / sum;
+			if (probability[i] < 1.0) {
+				work[small++] = i;
+			}
+			else {
+				work[--large] = i;
+			}
+		}
+
+		while (small > 0 && large < n) {
+			int s = work[--small];
+			int l = work[large];
+			alias[s] = l;
+			probability[l] += probability[s] - 1.0;
+			if (probability[l] < 1.0) {
+				large++;
+				work[small++] = l;
+			}
+		}
+		// What is left is 1 up to rounding errors
+		while (small > 0) {
+			probability[work[--small]] = 1.0;
+		}
+		while (large < n) {
+			probability[work[large++]] = 1.0;
+		}
+	}
+
+	public int size() {
+		return probability.length;
+	}
+
+	public int sample(RandomSource random) {
+		return sample(random.nextDouble());
+	}
+
+	/**
+	 * @param uniform a value in [0, 1), the only randomness the sample is derived from
+	 */
+	public int sample(double uniform) {
+		double u = uniform * probability.length;
+		int i = (int) u;
+		return u - i < probability[i] ? i : alias[i];
+	}
+}
@@ -0,0 +1,46 @@
+package com.gvenzl.data;
+
+/**
+ * Writes sales in a fixed big-endian layout: customer number (int), store
+ * index (int), epoch millis (long), sales amount in cents (int), item count (byte) and one
+ * byte per item index. Both bytes are unsigned, so baskets and the catalog are
+ * limited to 255 entries.
+ */
+public class BinarySaleSerializer extends SaleSerializer {
+
+	private static final int MAX_UNSIGNED_BYTE = 255;
+
+	public BinarySaleSerializer() {
+		int maxBasketSize = DemandModel.get().maxBasketSize();
+		if (maxBasketSize > MAX_UNSIGNED_BYTE) {
+			throw new IllegalArgumentException("The binary format supports baskets of up to " + MAX_UNSIGNED_BYTE +
+					" items, basketSizeWeights allows " + maxBasketSize + ".");
+		}
+		if (Coffee.size() > MAX_UNSIGNED_BYTE + 1) {
+			throw new IllegalArgumentException("The binary format supports up to " + (MAX_UNSIGNED_BYTE + 1) +
+					" catalog entries, there are " + Coffee.size() + ".");
+		}
+	}
+
+	@Override
+	public void write(Sale sale, JsonBuffer out) {
+		out.appendInt32(sale.customer);
+		out.appendInt32(sale.store);
+		out.appendInt64(sale.epochMillis);
+		out.appendInt32(sale.salesCents);
+		out.append((char) sale.items.length);
+		for (int item : sale.items) {
+			out.append((char) item);
+		}
+	}
+
+	@Override
+	public boolean isText() {
+		return false;
+	}
+
+	@Override
+	public String contentType() {
+		return "application/octet-stream";
+	}
+}
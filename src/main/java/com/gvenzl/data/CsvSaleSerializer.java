@@ -0,0 +1,56 @@
+package com.gvenzl.data;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes sales as CSV rows of date, loyaltyCardNo, address, city, state,
+ * zipcode, country, salesAmount and the items as "item size" separated by
+ * semicolons. The store location and item fragments are encoded once.
+ */
+public class CsvSaleSerializer extends SaleSerializer {
+
+	private static final byte[][] ITEMS = new byte[Coffee.size()][];
+
+	static {
+		for (int i = 0; i < ITEMS.length; i++) {
+			ITEMS[i] = (Coffee.get(i).item + " " + Coffee.get(i).size).getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	private final Population population = Population.get();
+	private final byte[][] locations = new byte[population.stores()][];
+	private final TimestampFormat timestamp;
+
+	public CsvSaleSerializer(boolean millis) {
+		this.timestamp = new TimestampFormat(millis);
+		for (int i = 0; i < locations.length; i++) {
+			locations[i] = (quote(population.getAddress(i)) + "," + quote(population.getCity(i)) + "," +
+					quote(population.getState(i)) + "," + population.getZipcode(i) + "," +
+					quote(population.getCountry(i))).getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@Override
+	public void write(Sale sale, JsonBuffer out) {
+		out.append(timestamp.format(sale.epochMillis)).append(',');
+		out.appendLong(population.getLoyaltyCardNo(sale.customer)).append(',');
+		out.append(locations[sale.store]).append(',');
+		out.appendCents(sale.salesCents).append(',').append('"');
+		for (int i = 0; i < sale.items.length; i++) {
+			if (i > 0) {
+				out.append(';');
+			}
+			out.append(ITEMS[sale.items[i]]);
+		}
+		out.append('"');
+	}
+
+	@Override
+	public String contentType() {
+		return "text/csv";
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+}
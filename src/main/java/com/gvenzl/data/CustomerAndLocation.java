@@ -1,1035 +0,0 @@
-package com.gvenzl.data;
-
-import java.util.Random;
-
-public class CustomerAndLocation {
-	
-	static private Random random = new Random();
-
-	private static String[] customerAndLocation = {
-
-		" \"loyaltyCardNo\":1850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":32060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":11084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":12060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":2070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":31440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1540,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1610,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":1840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":62060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":71084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":72060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":81084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":82060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":41084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":42060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51380,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51390,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51400,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51410,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51420,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51430,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51440,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51450,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51460,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51470,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51480,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51490,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51500,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51510,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51520,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51530,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51550,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51560,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51570,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51580,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51590,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51600,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51620,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51630,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51640,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51650,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51660,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51670,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51680,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51690,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51700,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51710,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":51084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":52060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61085,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61120,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61130,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61140,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61150,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61160,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61170,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61180,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61190,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61200,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61210,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61220,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61230,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61240,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61250,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61260,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61270,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61280,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61290,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61300,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61310,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61320,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61330,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61340,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61350,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61360,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":61370,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Los Angeles\",\"state\":\"CA\",\"zipcode\":90034,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91720,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91730,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91740,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91750,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91760,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91770,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91790,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Washington\",\"state\":\"DC\",\"zipcode\":20001,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91800,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91810,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91820,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91830,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91840,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91850,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91860,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91870,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91880,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91890,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91900,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91910,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91920,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91930,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91940,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91950,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91960,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91970,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91980,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91990,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94102,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91090,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91100,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91110,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":91084,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92000,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92010,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92020,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92021,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92022,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92080,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92081,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92082,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92070,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"San Francisco\",\"state\":\"CA\",\"zipcode\":94065,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92083,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"Boston\",\"state\":\"MA\",\"zipcode\":2111,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92030,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92040,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92050,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}",
-		" \"loyaltyCardNo\":92060,\"location\":{\"address\":\"500 Oracle Parkway\",\"city\":\"New York\",\"state\":\"NY\",\"zipcode\":10018,\"country\":\"USA\"}"
-	};
-	
-	public static String getCustomerAndLocation() {
-		return customerAndLocation[random.nextInt(customerAndLocation.length)];
-
-	}
-}
@@ -0,0 +1,212 @@
+package com.gvenzl.data;
+
+import java.util.Properties;
+
+/**
+ * What and when customers buy. Items are picked by the weights of the
+ * product, {@code itemWeights}, times the weights of the size,
+ * {@code sizeWeights}, and the amount of items in a basket by
+ * {@code basketSizeWeights}, all through alias tables. The
+ * {@code hourlyDemand} and {@code weekdayDemand} curves give the relative
+ * demand per hour of the day and day of the week, Monday first, in UTC
+ * like the order dates. They shape the times of historic orders and,
+ * with a {@code demandTimeScale}, the target rate.
+ */
+public final class DemandModel {
+
+	private static final String DEFAULT_ITEM_WEIGHTS = "Espresso:10,Americano:15,Latte:30,Cappuccino:20,Macchiato:7," +
+			"Vanilla Cream Coffee:5,Caramel Cream Coffee:5,Mocha:8";
+	private static final String DEFAULT_SIZE_WEIGHTS = "small:3,medium:5,large:2";
+	private static final String DEFAULT_BASKET_SIZE_WEIGHTS = "50,25,13,8,4";
+	private static final String DEFAULT_HOURLY_DEMAND = "1,1,1,1,1,2,6,12,14,10,7,7,9,8,6,6,6,5,4,3,2,2,1,1";
+	private static final String DEFAULT_WEEKDAY_DEMAND = "10,10,10,10,11,8,7";
+
+	private static final long HOUR_MILLIS = 3600 * 1000L;
+	private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+	// 1970-01-01 was a Thursday
+	private static final int EPOCH_WEEKDAY = 3;
+
+	private static volatile DemandModel demand;
+
+	private final AliasTable items;
+	private final AliasTable basketSizes;
+	private final AliasTable hours;
+	// Share of the day's demand up to the start of each hour, for times that have to be in order
+	private final double[] hourStartShare = new double[25];
+	// Demand relative to the average, per hour of the week
+	private final double[] weekHourFactor = new double[7 * 24];
+
+	/**
+	 * Sets up the demand model all generators and rate schedules use from then on.
+	 */
+	public static synchronized DemandModel configure(Properties props) {
+		demand = new DemandModel(props);
+		return demand;
+	}
+
+	/**
+	 * @return the configured demand model, or the default one if it has not been configured
+	 */
+	public static DemandModel get() {
+		DemandModel d = demand;
+		if (d == null) {
+			synchronized (DemandModel.class) {
+				if (demand == null) {
+					demand = new DemandModel(new Properties());
+				}
+				d = demand;
+			}
+		}
+		return d;
+	}
+
+	private DemandModel(Properties props) {
+		double[] itemWeights = new double[Coffee.size()];
+		double[] products = namedWeights(get(props, "itemWeights", DEFAULT_ITEM_WEIGHTS), "itemWeights", false);
+		double[] sizes = namedWeights(get(props, "sizeWeights", DEFAULT_SIZE_WEIGHTS), "sizeWeights", true);
+		for (int i = 0; i < itemWeights.length; i++) {
+			itemWeights[i] = products[i] * sizes[i];
+		}
+		items = new AliasTable(checked(itemWeights, "itemWeights and sizeWeights"));
+
+		basketSizes = new AliasTable(weights(get(props, "basketSizeWeights", DEFAULT_BASKET_SIZE_WEIGHTS),
+				"basketSizeWeights", -1));
+
+		double[] hourly = weights(get(props, "hourlyDemand", DEFAULT_HOURLY_DEMAND), "hourlyDemand", 24);
+		double[] weekday = weights(get(props, "weekdayDemand", DEFAULT_WEEKDAY_DEMAND), "weekdayDemand", 7);
+		double hourlyMean = mean(hourly);
+		double weekdayMean = mean(weekday);
+		for (int d = 0; d < 7; d++) {
+			for (int h = 0; h < 24; h++) {
+				weekHourFactor[d * 24 + h] = weekday[d] / weekdayMean * hourly[h] / hourlyMean;
+			}
+		}
+		for (int h = 0; h < 24; h++) {
+			hourStartShare[h + 1] = hourStartShare[h] + hourly[h] / (hourlyMean * 24);
+		}
+		hourStartShare[24] = 1.0;
+		hours = new AliasTable(hourly.clone());
+	}
+
+	/**
+	 * @return the index of the {@link Coffee} entry
+	 */
+	public int sampleItem(RandomSource random) {
+		return items.sample(random);
+	}
+
+	/**
+	 * @return the amount of items in a basket, at least 1
+	 */
+	public int sampleBasketSize(RandomSource random) {
+		return basketSizes.sample(random) + 1;
+	}
+
+	/**
+	 * @return the largest amount of items a basket can have
+	 */
+	public int maxBasketSize() {
+		return basketSizes.size();
+	}
+
+	/**
+	 * @return a time within the day starting at the given millis, following the hourly demand
+	 */
+	public long sampleTimeOfDay(long dayStartMillis, RandomSource random) {
+		return dayStartMillis + hours.sample(random) * HOUR_MILLIS + random.nextLong(HOUR_MILLIS);
+	}
+
+	/**
+	 * Maps a share of the day's demand to the time of day by which it has been
+	 * reached, so that increasing shares give increasing times.
+	 * @param share a value in [0, 1)
+	 * @return the millis since the start of the day
+	 */
+	public long timeOfDay(double share) {
+		int hour = 0;
+		while (hour < 23 && share >= hourStartShare[hour + 1]) {
+			hour++;
+		}
+		double inHour = (share - hourStartShare[hour]) / (hourStartShare[hour + 1] - hourStartShare[hour]);
+		return hour * HOUR_MILLIS + (long) (inHour * HOUR_MILLIS);
+	}
+
+	/**
+	 * @return the demand at the given time relative to the average demand of the week
+	 */
+	public double demandFactor(long epochMillis) {
+		int hour = (int) Math.floorMod(Math.floorDiv(epochMillis, HOUR_MILLIS), 24L);
+		int weekday = (int) Math.floorMod(Math.floorDiv(epochMillis, DAY_MILLIS) + EPOCH_WEEKDAY, 7L);
+		return weekHourFactor[weekday * 24 + hour];
+	}
+
+	/**
+	 * Parses {@code <name>:<weight>} pairs into a weight per {@link Coffee} entry,
+	 * matching either the item or the size.
+	 */
+	private static double[] namedWeights(String value, String key, boolean size) {
+		double[] weights = new double[Coffee.size()];
+		for (String pair : value.split(",")) {
+			String[] nameAndWeight = pair.trim().split(":");
+			if (nameAndWeight.length != 2) {
+				throw new IllegalArgumentException("Invalid " + key + " entry, expected <name>:<weight>: " + pair);
+			}
+			String name = nameAndWeight[0].trim();
+			double weight = Double.valueOf(nameAndWeight[1].trim());
+			boolean found = false;
+			for (int i = 0; i < weights.length; i++) {
+				Coffee.CoffeeEntry coffee = Coffee.get(i);
+				if ((size ? coffee.size : coffee.item).equalsIgnoreCase(name)) {
+					weights[i] = weight;
+					found = true;
+				}
+			}
+			if (!found) {
+				throw new IllegalArgumentException("Unknown " + (size ? "size" : "item") + " in " + key + ": " + name);
+			}
+		}
+		return weights;
+	}
+
+	/**
+	 * @param expected the amount of weights expected, -1 for any
+	 */
+	private static double[] weights(String value, String key, int expected) {
+		String[] values = value.split(",");
+		if (expected >= 0 && values.length != expected) {
+			throw new IllegalArgumentException(key + " requires " + expected + " weights but has " + values.length);
+		}
+		double[] weights = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			weights[i] = Double.valueOf(values[i].trim());
+		}
+		return checked(weights, key);
+	}
+
+	private static double[] checked(double[] weights, String key) {
+		double sum = 0;
+		for (double w : weights) {
+			if (w < 0) {
+				throw new IllegalArgumentException(key + " must not be negative.");
+			}
+			sum += w;
+		}
+		if (sum <= 0) {
+			throw new IllegalArgumentException(key + " requires at least one weight above 0.");
+		}
+		return weights;
+	}
+
+	private static double mean(double[] values) {
+		double sum = 0;
+		for (double v : values) {
+			sum += v;
+		}
+		return sum / values.length;
+	}
+
+	private static String get(Properties props, String key, String defaultValue) {
+		String value = props.getProperty(key, "").trim();
+		return value.isEmpty() ? defaultValue : value;
+	}
+}
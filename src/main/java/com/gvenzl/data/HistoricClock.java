@@ -0,0 +1,141 @@
+package com.gvenzl.data;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * The dates of historic orders, between {@code historicStart} inclusive and
+ * {@code historicEnd} exclusive, by default the 365 days before today, with
+ * the time of day following the hourly demand. The {@code historicOrder}
+ * decides how one generator's orders are spread over the range:
+ * <ul>
+ *     <li>random: every order on any day of the range</li>
+ *     <li>ordered: the orders walk through the range in time order</li>
+ *     <li>clustered: the orders walk through the range one partition of
+ *     {@code historicPartition}, a day, month or year, at a time, in random
+ *     order within the partition</li>
+ * </ul>
+ * So that range partitioned tables are loaded one partition after the other
+ * instead of all at once. Ordered and clustered spread the generator's fixed
+ * share of {@code maxOrders} evenly over the range. Instances are not thread safe.
+ */
+public final class HistoricClock {
+
+	private static final long DAY_MILLIS = 24 * 3600 * 1000L;
+
+	private enum Ordering { RANDOM, ORDERED, CLUSTERED }
+
+	private final DemandModel demand = DemandModel.get();
+	private final Ordering ordering;
+	private final long startDay;
+	private final int days;
+	private final long orders;
+	// Epoch days the partitions start at, followed by the end of the range
+	private final long[] partitions;
+
+	private long order = 0;
+	private int partition = 0;
+
+	/**
+	 * @param orders the orders of the generator this clock is for
+	 */
+	public HistoricClock(Properties props, long orders) {
+		LocalDate today = LocalDate.ofEpochDay(Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS));
+		String end = props.getProperty("historicEnd", "").trim();
+		LocalDate endDate = end.isEmpty() ? today : parse(end, "historicEnd");
+		String start = props.getProperty("historicStart", "").trim();
+		LocalDate startDate = start.isEmpty() ? endDate.minusDays(365) : parse(start, "historicStart");
+		if (!startDate.isBefore(endDate)) {
+			throw new IllegalArgumentException("historicStart has to be before historicEnd.");
+		}
+		this.startDay = startDate.toEpochDay();
+		this.days = (int) (endDate.toEpochDay() - startDay);
+		this.orders = orders;
+
+		String ordering = props.getProperty("historicOrder", "random").trim();
+		try {
+			this.ordering = Ordering.valueOf(ordering.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown historicOrder: " + ordering);
+		}
+		if (this.ordering != Ordering.RANDOM && orders <= 0) {
+			throw new IllegalArgumentException("Historic data in " + ordering + " order requires the amount of " +
+					"orders to be set via maxOrders.");
+		}
+
+		this.partitions = partitions(startDate, endDate, props.getProperty("historicPartition", "month").trim());
+	}
+
+	private static LocalDate parse(String date, String key) {
+		try {
+			return LocalDate.parse(date);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException(key + " has to be a date like 2024-01-31: " + date);
+		}
+	}
+
+	private static long[] partitions(LocalDate start, LocalDate end, String interval) {
+		long[] starts = new long[16];
+		int count = 0;
+		for (LocalDate date = start; date.isBefore(end); ) {
+			if (count == starts.length - 1) {
+				starts = Arrays.copyOf(starts, starts.length * 2);
+			}
+			starts[count++] = date.toEpochDay();
+			switch (interval.toLowerCase()) {
+				case "day":
+					date = date.plusDays(1);
+					break;
+				case "month":
+					date = date.withDayOfMonth(1).plusMonths(1);
+					break;
+				case "year":
+					date = date.withDayOfYear(1).plusYears(1);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown historicPartition: " + interval);
+			}
+		}
+		starts[count++] = end.toEpochDay();
+		return Arrays.copyOf(starts, count);
+	}
+
+	public long next(RandomSource random) {
+		switch (ordering) {
+			case ORDERED:
+				return nextOrdered(random);
+			case CLUSTERED:
+				return nextClustered(random);
+			default:
+				return demand.sampleTimeOfDay((startDay + random.nextInt(days)) * DAY_MILLIS, random);
+		}
+	}
+
+	/**
+	 * Each order gets its own slot of the range, at a random point within the slot,
+	 * with the slots narrower in the busy hours of the day.
+	 */
+	private long nextOrdered(RandomSource random) {
+		double position = Math.min((order++ + random.nextDouble()) * days / orders, Math.nextDown((double) days));
+		long day = (long) position;
+		return (startDay + day) * DAY_MILLIS + demand.timeOfDay(position - day);
+	}
+
+	private long nextClustered(RandomSource random) {
+		long day = startDay + Math.min((long) ((double) order++ * days / orders), days - 1);
+		while (day >= partitions[partition + 1]) {
+			partition++;
+		}
+		long from = partitions[partition];
+		int length = (int) (partitions[partition + 1] - from);
+		return demand.sampleTimeOfDay((from + random.nextInt(length)) * DAY_MILLIS, random);
+	}
+
+	@Override
+	public String toString() {
+		return LocalDate.ofEpochDay(startDay) + " to " + LocalDate.ofEpochDay(startDay + days) + ", " +
+				ordering.name().toLowerCase();
+	}
+}
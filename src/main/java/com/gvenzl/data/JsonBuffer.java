@@ -0,0 +1,145 @@
+package com.gvenzl.data;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that documents, mostly UTF-8 JSON, are written into and that is
+ * reused from one document to the next. Consumers that need to keep the
+ * content beyond the next {@link #reset()} have to copy it.
+ */
+public final class JsonBuffer {
+
+	private byte[] buf;
+	private int length;
+
+	public JsonBuffer(int capacity) {
+		buf = new byte[capacity];
+	}
+
+	public void reset() {
+		length = 0;
+	}
+
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @return the backing array, valid from index 0 to {@link #length()}
+	 */
+	public byte[] array() {
+		return buf;
+	}
+
+	public JsonBuffer append(char c) {
+		ensureCapacity(1);
+		buf[length++] = (byte) c;
+		return this;
+	}
+
+	public JsonBuffer append(byte[] bytes) {
+		return append(bytes, 0, bytes.length);
+	}
+
+	public JsonBuffer append(byte[] bytes, int offset, int len) {
+		ensureCapacity(len);
+		System.arraycopy(bytes, offset, buf, length, len);
+		length += len;
+		return this;
+	}
+
+	/**
+	 * Appends the remaining bytes of the buffer, leaving its position untouched.
+	 */
+	public JsonBuffer append(ByteBuffer bytes) {
+		int len = bytes.remaining();
+		ensureCapacity(len);
+		bytes.duplicate().get(buf, length, len);
+		length += len;
+		return this;
+	}
+
+	public JsonBuffer append(JsonBuffer other) {
+		return append(other.buf, 0, other.length);
+	}
+
+	public JsonBuffer appendLong(long value) {
+		if (value < 0) {
+			append('-');
+			value = -value;
+		}
+		int digits = 1;
+		for (long v = value; v >= 10; v /= 10) {
+			digits++;
+		}
+		ensureCapacity(digits);
+		for (int i = length + digits - 1; i >= length; i--) {
+			buf[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		length += digits;
+		return this;
+	}
+
+	/**
+	 * Appends the value as four bytes, big-endian.
+	 */
+	public JsonBuffer appendInt32(int value) {
+		ensureCapacity(4);
+		buf[length++] = (byte) (value >>> 24);
+		buf[length++] = (byte) (value >>> 16);
+		buf[length++] = (byte) (value >>> 8);
+		buf[length++] = (byte) value;
+		return this;
+	}
+
+	/**
+	 * Appends the value as eight bytes, big-endian.
+	 */
+	public JsonBuffer appendInt64(long value) {
+		return appendInt32((int) (value >>> 32)).appendInt32((int) value);
+	}
+
+	/**
+	 * Appends an amount of cents as a decimal number with up to two
+	 * fraction digits and no trailing zeros, e.g. 1250 as 12.5.
+	 */
+	public JsonBuffer appendCents(long cents) {
+		if (cents < 0) {
+			append('-');
+			cents = -cents;
+		}
+		appendLong(cents / 100);
+		int fraction = (int) (cents % 100);
+		if (fraction != 0) {
+			append('.').append((char) ('0' + fraction / 10));
+			if (fraction % 10 != 0) {
+				append((char) ('0' + fraction % 10));
+			}
+		}
+		return this;
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buf, length);
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(buf, 0, length);
+	}
+
+	@Override
+	public String toString() {
+		return new String(buf, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private void ensureCapacity(int extra) {
+		if (length + extra > buf.length) {
+			buf = Arrays.copyOf(buf, Math.max(buf.length * 2, length + extra));
+		}
+	}
+}
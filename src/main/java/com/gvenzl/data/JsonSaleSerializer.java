@@ -0,0 +1,119 @@
+package com.gvenzl.data;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes sales as compact JSON or, for humans, pretty printed JSON. All
+ * static fragments are encoded once, so serializing does not allocate.
+ */
+public class JsonSaleSerializer extends SaleSerializer {
+
+	private static final byte[] DATE_START = ascii(",\"date\":\"");
+	private static final byte[] DATE_END = ascii("\",");
+	private static final byte[] LOYALTY_CARD_NO = ascii("\"loyaltyCardNo\":");
+	private static final byte[] SALES_AMOUNT = ascii(",\"salesAmount\":");
+	private static final byte[] ORDER = ascii(",\"order\":[");
+
+	private final byte[] metadata;
+	private final boolean pretty;
+	private final Population population = Population.get();
+	private final TimestampFormat timestamp;
+	private final JsonBuffer compact = new JsonBuffer(1024);
+
+	public JsonSaleSerializer(boolean staticData, boolean pretty, boolean millis) {
+		this.metadata = StaticData.getStaticDataBytes(staticData);
+		this.pretty = pretty;
+		this.timestamp = new TimestampFormat(millis);
+	}
+
+	@Override
+	public void write(Sale sale, JsonBuffer out) {
+		if (!pretty) {
+			writeCompact(sale, out);
+			return;
+		}
+		compact.reset();
+		writeCompact(sale, compact);
+		indent(compact, out);
+	}
+
+	private void writeCompact(Sale sale, JsonBuffer out) {
+		out.append('{').append(metadata);
+
+		out.append(DATE_START);
+		out.append(timestamp.format(sale.epochMillis));
+		out.append(DATE_END);
+
+		out.append(LOYALTY_CARD_NO).appendLong(population.getLoyaltyCardNo(sale.customer)).append(',');
+		out.append(population.getLocationBytes(sale.store));
+
+		out.append(SALES_AMOUNT).appendCents(sale.salesCents);
+		out.append(ORDER);
+		for (int i = 0; i < sale.items.length; i++) {
+			if (i > 0) {
+				out.append(',');
+			}
+			out.append(Coffee.get(sale.items[i]).json);
+		}
+		out.append(']');
+		out.append('}');
+	}
+
+	/**
+	 * Pretty prints compact JSON with an indentation of two spaces.
+	 */
+	private static void indent(JsonBuffer in, JsonBuffer out) {
+		byte[] json = in.array();
+		int depth = 0;
+		boolean inString = false;
+		for (int i = 0; i < in.length(); i++) {
+			byte b = json[i];
+			if (inString) {
+				out.append(json, i, 1);
+				if (b == '\\') {
+					out.append(json, ++i, 1);
+				}
+				else if (b == '"') {
+					inString = false;
+				}
+				continue;
+			}
+			switch (b) {
+				case '"':
+					inString = true;
+					out.append('"');
+					break;
+				case '{':
+				case '[':
+					out.append((char) b);
+					newLine(out, ++depth);
+					break;
+				case '}':
+				case ']':
+					newLine(out, --depth);
+					out.append((char) b);
+					break;
+				case ',':
+					out.append(',');
+					newLine(out, depth);
+					break;
+				case ':':
+					out.append(':').append(' ');
+					break;
+				default:
+					out.append(json, i, 1);
+			}
+		}
+	}
+
+	private static void newLine(JsonBuffer out, int depth) {
+		out.append('\n');
+		for (int i = 0; i < depth; i++) {
+			out.append(' ').append(' ');
+		}
+	}
+
+	private static byte[] ascii(String s) {
+		return s.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,96 @@
+package com.gvenzl.data;
+
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes sales as OSON, the binary JSON format of Oracle Database 21c and
+ * later, straight from the sale's fields without going through JSON text.
+ * The document has the same fields as the JSON one.
+ */
+public class OsonSaleSerializer extends SaleSerializer {
+
+	private static final BigDecimal[] ITEM_AMOUNTS = new BigDecimal[Coffee.size()];
+	static {
+		for (int i = 0; i < ITEM_AMOUNTS.length; i++) {
+			ITEM_AMOUNTS[i] = BigDecimal.valueOf(Coffee.get(i).cents, 2);
+		}
+	}
+
+	private final OracleJsonFactory factory = new OracleJsonFactory();
+	private final String metadata;
+	private final Population population = Population.get();
+	private final TimestampFormat timestamp;
+	private final BufferStream stream = new BufferStream();
+
+	public OsonSaleSerializer(boolean staticData, boolean millis) {
+		this.metadata = StaticData.getMetadata(staticData);
+		this.timestamp = new TimestampFormat(millis);
+	}
+
+	@Override
+	public void write(Sale sale, JsonBuffer out) {
+		stream.target = out;
+		int s = sale.store;
+		OracleJsonGenerator generator = factory.createJsonBinaryGenerator(stream);
+		generator.writeStartObject();
+		if (metadata != null) {
+			generator.write("metadata", metadata);
+		}
+		else {
+			generator.writeNull("metadata");
+		}
+		generator.write("date", new String(timestamp.format(sale.epochMillis), StandardCharsets.US_ASCII));
+		generator.write("loyaltyCardNo", population.getLoyaltyCardNo(sale.customer));
+		generator.writeStartObject("location")
+				.write("address", population.getAddress(s))
+				.write("city", population.getCity(s))
+				.write("state", population.getState(s))
+				.write("zipcode", population.getZipcode(s))
+				.write("country", population.getCountry(s))
+				.writeEnd();
+		generator.write("salesAmount", BigDecimal.valueOf(sale.salesCents, 2));
+		generator.writeStartArray("order");
+		for (int item : sale.items) {
+			Coffee.CoffeeEntry coffee = Coffee.get(item);
+			generator.writeStartObject()
+					.write("item", coffee.item)
+					.write("size", coffee.size)
+					.write("salesAmount", ITEM_AMOUNTS[item])
+					.write("coffeeUsedGram", coffee.coffeeUsedGram)
+					.writeEnd();
+		}
+		generator.writeEnd();
+		generator.writeEnd();
+		generator.close();
+		stream.target = null;
+	}
+
+	@Override
+	public boolean isText() {
+		return false;
+	}
+
+	@Override
+	public String contentType() {
+		return "application/octet-stream";
+	}
+
+	private static final class BufferStream extends OutputStream {
+		JsonBuffer target;
+
+		@Override
+		public void write(int b) {
+			target.append((char) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			target.append(b, off, len);
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package com.gvenzl.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * The synthetic customers and stores sales are made by. Customers are just
+ * numbers, picked with a Zipf distribution over their popularity, so that a
+ * few regulars buy a lot and most cards are seen rarely. Stores are spread
+ * over the cities weighted by residents and each customer mostly buys at a
+ * home store derived from the customer number. Only the stores keep text,
+ * their location already encoded as JSON, so millions of customers take no
+ * more than the 12 bytes per customer of the popularity table.
+ * <p>
+ * The population is configured once at startup from the {@code customers},
+ * {@code stores}, {@code customerSkew} and {@code homeStoreShare} properties.
+ */
+public final class Population {
+
+	private static final int DEFAULT_CUSTOMERS = 1_000_000;
+	private static final int DEFAULT_STORES = 2_000;
+	private static final double DEFAULT_SKEW = 1.0;
+	private static final double DEFAULT_HOME_STORE_SHARE = 0.8;
+
+	private static final int FIRST_LOYALTY_CARD_NO = 1000;
+	// A prime above any int, so that multiplying by it shuffles the ranks over all customers
+	private static final long SCRAMBLE = 2654435761L;
+	private static final int ZIPCODES_PER_CITY = 50;
+	private static final String COUNTRY = "USA";
+
+	private static final String[] CITY = {
+		"New York", "Los Angeles", "Chicago", "Houston", "Phoenix", "Philadelphia", "San Antonio", "San Diego",
+		"Dallas", "San Jose", "Austin", "Jacksonville", "Columbus", "Charlotte", "Indianapolis", "San Francisco",
+		"Seattle", "Denver", "Washington", "Nashville", "Boston", "Las Vegas", "Portland", "Detroit",
+		"Atlanta", "Miami", "Minneapolis", "New Orleans", "Redwood City"
+	};
+	private static final String[] STATE = {
+		"NY", "CA", "IL", "TX", "AZ", "PA", "TX", "CA",
+		"TX", "CA", "TX", "FL", "OH", "NC", "IN", "CA",
+		"WA", "CO", "DC", "TN", "MA", "NV", "OR", "MI",
+		"GA", "FL", "MN", "LA", "CA"
+	};
+	private static final int[] FIRST_ZIPCODE = {
+		10001, 90001, 60601, 77001, 85001, 19102, 78201, 92101,
+		75201, 95110, 78701, 32202, 43085, 28202, 46204, 94102,
+		98101, 80202, 20001, 37201, 2108, 89101, 97201, 48201,
+		30303, 33101, 55401, 70112, 94061
+	};
+	// In thousands
+	private static final int[] RESIDENTS = {
+		8804, 3899, 2746, 2304, 1608, 1603, 1434, 1386,
+		1304, 1013, 961, 949, 905, 874, 887, 873,
+		737, 715, 689, 689, 675, 641, 652, 639,
+		498, 442, 429, 383, 84
+	};
+	private static final String[] STREETS = {
+		"Main Street", "Oak Avenue", "Pine Street", "Maple Avenue", "Cedar Street", "Elm Street",
+		"Washington Street", "Lake Street", "Hill Road", "Park Avenue", "Broadway", "Market Street",
+		"Oracle Parkway", "Sunset Boulevard", "Mission Street", "Church Street"
+	};
+
+	private static volatile Population population;
+
+	private final int customers;
+	private final AliasTable popularity;
+	private final double homeStoreShare;
+	private final long salt;
+
+	private final AliasTable storeTraffic;
+	private final int[] storeCity;
+	private final String[] storeAddress;
+	private final int[] storeZipcode;
+	private final byte[][] storeLocation;
+
+	/**
+	 * Sets up the population all generators and serializers use from then on.
+	 * @param random the source the store locations and home stores are derived from
+	 */
+	public static synchronized Population configure(Properties props, RandomSource random) {
+		int customers = Integer.valueOf(get(props, "customers", String.valueOf(DEFAULT_CUSTOMERS)));
+		int stores = Integer.valueOf(get(props, "stores", String.valueOf(DEFAULT_STORES)));
+		double skew = Double.valueOf(get(props, "customerSkew", String.valueOf(DEFAULT_SKEW)));
+		double homeStoreShare = Double.valueOf(get(props, "homeStoreShare", String.valueOf(DEFAULT_HOME_STORE_SHARE)));
+		if (customers <= 0 || stores <= 0) {
+			throw new IllegalArgumentException("customers and stores have to be at least 1.");
+		}
+		if (skew < 0 || homeStoreShare < 0 || homeStoreShare > 1) {
+			throw new IllegalArgumentException("customerSkew has to be at least 0 and homeStoreShare between 0 and 1.");
+		}
+		population = new Population(customers, stores, skew, homeStoreShare, random);
+		return population;
+	}
+
+	/**
+	 * @return the configured population, or the default one if it has not been configured
+	 */
+	public static Population get() {
+		Population p = population;
+		if (p == null) {
+			synchronized (Population.class) {
+				if (population == null) {
+					population = new Population(DEFAULT_CUSTOMERS, DEFAULT_STORES, DEFAULT_SKEW,
+							DEFAULT_HOME_STORE_SHARE, new RandomSource(0));
+				}
+				p = population;
+			}
+		}
+		return p;
+	}
+
+	private Population(int customers, int stores, double skew, double homeStoreShare, RandomSource random) {
+		this.customers = customers;
+		this.homeStoreShare = homeStoreShare;
+		this.salt = random.nextLong(Long.MAX_VALUE);
+
+		// Without a skew every customer is equally likely and needs no table
+		if (skew > 0) {
+			double[] weights = new double[customers];
+			for (int rank = 0; rank < customers; rank++) {
+				weights[rank] = Math.pow(rank + 1, -skew);
+			}
+			this.popularity = new AliasTable(weights);
+		}
+		else {
+			this.popularity = null;
+		}
+
+		double[] cityWeights = new double[CITY.length];
+		for (int i = 0; i < CITY.length; i++) {
+			cityWeights[i] = RESIDENTS[i];
+		}
+		AliasTable cities = new AliasTable(cityWeights);
+
+		storeCity = new int[stores];
+		storeAddress = new String[stores];
+		storeZipcode = new int[stores];
+		storeLocation = new byte[stores][];
+		int[] storesInCity = new int[CITY.length];
+		for (int s = 0; s < stores; s++) {
+			int city = cities.sample(random);
+			storeCity[s] = city;
+			storesInCity[city]++;
+			storeAddress[s] = (100 + random.nextInt(9900)) + " " + STREETS[random.nextInt(STREETS.length)];
+			storeZipcode[s] = FIRST_ZIPCODE[city] + random.nextInt(ZIPCODES_PER_CITY);
+			storeLocation[s] = ("\"location\":{\"address\":\"" + storeAddress[s] + "\",\"city\":\"" + CITY[city] +
+					"\",\"state\":\"" + STATE[city] + "\",\"zipcode\":" + storeZipcode[s] +
+					",\"country\":\"" + COUNTRY + "\"}").getBytes(StandardCharsets.UTF_8);
+		}
+
+		// A city's residents share its stores, some of which are busier than others
+		double[] traffic = new double[stores];
+		for (int s = 0; s < stores; s++) {
+			traffic[s] = (double) RESIDENTS[storeCity[s]] / storesInCity[storeCity[s]] * (0.5 + random.nextDouble());
+		}
+		this.storeTraffic = new AliasTable(traffic);
+	}
+
+	public int customers() {
+		return customers;
+	}
+
+	public int stores() {
+		return storeCity.length;
+	}
+
+	public int sampleCustomer(RandomSource random) {
+		if (popularity == null) {
+			return random.nextInt(customers);
+		}
+		// Spread the popular ranks over all customer numbers instead of the lowest ones
+		return (int) (popularity.sample(random) * SCRAMBLE % customers);
+	}
+
+	public int sampleStore(int customer, RandomSource random) {
+		if (random.nextDouble() < homeStoreShare) {
+			return getHomeStore(customer);
+		}
+		return storeTraffic.sample(random);
+	}
+
+	/**
+	 * @return the store the customer usually buys at, the same one for the same seed
+	 */
+	public int getHomeStore(int customer) {
+		long z = customer + salt;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		z = z ^ (z >>> 31);
+		return storeTraffic.sample((z >>> 11) * 0x1.0p-53);
+	}
+
+	public int getLoyaltyCardNo(int customer) {
+		return FIRST_LOYALTY_CARD_NO + customer;
+	}
+
+	/**
+	 * @return the store's {@code "location"} member as UTF-8 encoded JSON
+	 */
+	public byte[] getLocationBytes(int store) {
+		return storeLocation[store];
+	}
+
+	public String getAddress(int store) {
+		return storeAddress[store];
+	}
+
+	public String getCity(int store) {
+		return CITY[storeCity[store]];
+	}
+
+	public String getState(int store) {
+		return STATE[storeCity[store]];
+	}
+
+	public int getZipcode(int store) {
+		return storeZipcode[store];
+	}
+
+	public String getCountry(int store) {
+		return COUNTRY;
+	}
+
+	private static String get(Properties props, String key, String defaultValue) {
+		String value = props.getProperty(key, "").trim();
+		return value.isEmpty() ? defaultValue : value;
+	}
+}
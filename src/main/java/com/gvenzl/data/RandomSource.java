@@ -0,0 +1,41 @@
+package com.gvenzl.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source of all randomness in the generator. Each worker gets its own
+ * instance split off a root seeded from the {@code seed} property, so
+ * workers never contend on shared state and a given seed reproduces the
+ * same sequence of sales per worker.
+ */
+public final class RandomSource {
+
+	private final SplittableRandom random;
+
+	public RandomSource(long seed) {
+		this(new SplittableRandom(seed));
+	}
+
+	private RandomSource(SplittableRandom random) {
+		this.random = random;
+	}
+
+	/**
+	 * @return an independent source, deterministically derived from this one
+	 */
+	public RandomSource split() {
+		return new RandomSource(random.split());
+	}
+
+	public int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+
+	public long nextLong(long bound) {
+		return random.nextLong(bound);
+	}
+
+	public double nextDouble() {
+		return random.nextDouble();
+	}
+}
@@ -0,0 +1,25 @@
+package com.gvenzl.data;
+
+/**
+ * A generated sale, kept as indexes into the static data instead of text.
+ * Sinks turn it into the format they load with a {@link SaleSerializer}.
+ */
+public final class Sale {
+
+	/** Customer number in the {@link Population}, from which the loyalty card is derived */
+	public final int customer;
+	/** Index of the {@link Population} store, i.e. the location */
+	public final int store;
+	public final long epochMillis;
+	/** Indexes of the {@link Coffee} entries ordered */
+	public final int[] items;
+	public final int salesCents;
+
+	public Sale(int customer, int store, long epochMillis, int[] items, int salesCents) {
+		this.customer = customer;
+		this.store = store;
+		this.epochMillis = epochMillis;
+		this.items = items;
+		this.salesCents = salesCents;
+	}
+}
@@ -0,0 +1,55 @@
+package com.gvenzl.data;
+
+import java.util.Properties;
+
+/**
+ * Generates sales as {@link Sale} records of indexes into the static data,
+ * leaving the formatting to the sinks. Instances are not thread safe; use
+ * one per worker thread.
+ */
+public class SaleGenerator {
+
+	private final RandomSource random;
+	private final HistoricClock historic;
+	private final Population population = Population.get();
+	private final DemandModel demand = DemandModel.get();
+
+	/**
+	 * @param historicData whether to generate dates in the 365 days before today instead of the current time
+	 */
+	public SaleGenerator(RandomSource random, boolean historicData) {
+		this(random, historicData ? new HistoricClock(new Properties(), 0) : null);
+	}
+
+	/**
+	 * @param historic the clock of the historic dates, null for the current time
+	 */
+	public SaleGenerator(RandomSource random, HistoricClock historic) {
+		this.random = random;
+		this.historic = historic;
+	}
+
+	public Sale generateSale() {
+
+		long epochMillis = generateDate();
+		int customer = population.sampleCustomer(random);
+		int store = population.sampleStore(customer, random);
+
+		int orders = demand.sampleBasketSize(random);
+		int[] items = new int[orders];
+		int salesCents = 0;
+		for (int i = 0; i < orders; i++) {
+			items[i] = demand.sampleItem(random);
+			salesCents += Coffee.get(items[i]).cents;
+		}
+
+		return new Sale(customer, store, epochMillis, items, salesCents);
+	}
+
+	private long generateDate() {
+		if (historic != null) {
+			return historic.next(random);
+		}
+		return System.currentTimeMillis();
+	}
+}
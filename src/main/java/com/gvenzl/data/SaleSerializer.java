@@ -0,0 +1,71 @@
+package com.gvenzl.data;
+
+import java.util.Properties;
+
+/**
+ * Turns a {@link Sale} into the bytes a sink loads. Each sink picks the
+ * format it needs, so a sale is only formatted in the formats actually
+ * used. Instances are not thread safe; use one per thread.
+ */
+public abstract class SaleSerializer {
+
+	/**
+	 * Appends the serialized sale to the buffer.
+	 */
+	public abstract void write(Sale sale, JsonBuffer out);
+
+	/**
+	 * @return true for text formats, which are written one sale per line
+	 */
+	public boolean isText() {
+		return true;
+	}
+
+	public String contentType() {
+		return "application/json";
+	}
+
+	/**
+	 * @param format json, pretty, csv, oson or binary
+	 */
+	public static SaleSerializer forName(String format, boolean staticData) {
+		return forName(format, staticData, false);
+	}
+
+	/**
+	 * @param millis whether to write the dates with milliseconds
+	 */
+	public static SaleSerializer forName(String format, boolean staticData, boolean millis) {
+		switch (format.toLowerCase()) {
+			case "json":
+				return new JsonSaleSerializer(staticData, false, millis);
+			case "pretty":
+				return new JsonSaleSerializer(staticData, true, millis);
+			case "csv":
+				return new CsvSaleSerializer(millis);
+			case "oson":
+				return new OsonSaleSerializer(staticData, millis);
+			case "binary":
+				return new BinarySaleSerializer();
+			default:
+				throw new IllegalArgumentException("Unknown format: " + format);
+		}
+	}
+
+	/**
+	 * Creates the serializer for the format in property {@code formatKey}, json by default.
+	 */
+	public static SaleSerializer forProperty(Properties props, String formatKey) {
+		return forFormat(props, props.getProperty(formatKey, "json"));
+	}
+
+	/**
+	 * Creates the serializer for the format, with or without static data and
+	 * with the {@code dateResolution} as configured.
+	 */
+	public static SaleSerializer forFormat(Properties props, String format) {
+		String staticData = props.getProperty("staticData", "false");
+		return forName(format, staticData.equalsIgnoreCase("true") || staticData.equalsIgnoreCase("yes"),
+				props.getProperty("dateResolution", "seconds").equalsIgnoreCase("millis"));
+	}
+}
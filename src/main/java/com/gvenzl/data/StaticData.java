@@ -1,5 +1,7 @@
 package com.gvenzl.data;
 
+import java.nio.charset.StandardCharsets;
+
 public class StaticData {
 
 	private static String data = "\"metadata\": \"" +
@@ -13,6 +15,21 @@ public class StaticData {
 			"Warmly little before cousin sussex entire men set. Blessing it ladyship on sensible judgment settling outweigh. Worse linen an of civil jokes leave offer. Parties all clothes removal cheered calling prudent her. And residence for met the estimable disposing. Mean if he they been no hold mr. Is at much do made took held help. Latter person am secure of estate genius at. "+
 			"\"";
 	
+	private static byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
+	private static byte[] nullBytes = "\"metadata\":null".getBytes(StandardCharsets.UTF_8);
+	private static String metadata = data.substring(data.indexOf(": \"") + 3, data.length() - 1);
+
+	/**
+	 * @return the unquoted metadata value, null without static data
+	 */
+	public static String getMetadata(boolean staticData) {
+		return staticData ? metadata : null;
+	}
+
+	public static byte[] getStaticDataBytes(boolean staticData) {
+		return staticData ? dataBytes : nullBytes;
+	}
+
 	public static String getStaticData(boolean staticData) {
 		if(!staticData) {
 			return "\"metadata\": null";
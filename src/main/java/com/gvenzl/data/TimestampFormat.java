@@ -0,0 +1,76 @@
+package com.gvenzl.data;
+
+/**
+ * Formats timestamps as "yyyy-MM-dd HH:mm:ss", or with milliseconds as
+ * "yyyy-MM-dd HH:mm:ss.SSS", in UTC without allocating. The date and time
+ * are cached and only recomputed when the second changes. Instances are
+ * not thread safe.
+ */
+public final class TimestampFormat {
+
+	private final byte[] timestamp;
+	private final boolean millis;
+	private long timestampSecond = Long.MIN_VALUE;
+
+	public TimestampFormat() {
+		this(false);
+	}
+
+	public TimestampFormat(boolean millis) {
+		this.millis = millis;
+		this.timestamp = new byte[millis ? 23 : 19];
+		if (millis) {
+			timestamp[19] = '.';
+		}
+	}
+
+	/**
+	 * @return the formatted timestamp, overwritten by the next call
+	 */
+	public byte[] format(long epochMillis) {
+		long second = Math.floorDiv(epochMillis, 1000L);
+		if (second != timestampSecond) {
+			formatSecond(second);
+			timestampSecond = second;
+		}
+		if (millis) {
+			writeDigits(20, (int) (epochMillis - second * 1000L), 3);
+		}
+		return timestamp;
+	}
+
+	private void formatSecond(long epochSecond) {
+		long days = Math.floorDiv(epochSecond, 86400L);
+		int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+
+		// Civil date from days since epoch, see http://howardhinnant.github.io/date_algorithms.html
+		long z = days + 719468;
+		long era = Math.floorDiv(z, 146097);
+		int doe = (int) (z - era * 146097);
+		int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		int mp = (5 * doy + 2) / 153;
+		int day = doy - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+		writeDigits(0, (int) year, 4);
+		timestamp[4] = '-';
+		writeDigits(5, month, 2);
+		timestamp[7] = '-';
+		writeDigits(8, day, 2);
+		timestamp[10] = ' ';
+		writeDigits(11, secondOfDay / 3600, 2);
+		timestamp[13] = ':';
+		writeDigits(14, secondOfDay / 60 % 60, 2);
+		timestamp[16] = ':';
+		writeDigits(17, secondOfDay % 60, 2);
+	}
+
+	private void writeDigits(int offset, int value, int digits) {
+		for (int i = offset + digits - 1; i >= offset; i--) {
+			timestamp[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+}
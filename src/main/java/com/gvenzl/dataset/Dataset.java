@@ -0,0 +1,131 @@
+package com.gvenzl.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Orders generated once by the {@link DatasetWriter} and replayed from the
+ * file through read-only memory mappings, so that a replay costs no
+ * generator or serializer CPU. The documents are handed out as read-only
+ * views of the mapping, which all threads can read at the same time.
+ * <p>
+ * The file holds a header, the documents back to back and an index of the
+ * offsets of the documents, followed by the offset of their end.
+ */
+public final class Dataset {
+
+    static final int MAGIC = 0x43534453;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int FORMAT_BYTES = 16;
+
+    // A mapping can be 2 GB at most, so the documents are mapped in segments
+    // overlapping by the longest document, which then always lies in one segment
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    private final String format;
+    private final int count;
+    private final LongBuffer index;
+    private final ByteBuffer[] segments;
+
+    private Dataset(String format, int count, LongBuffer index, ByteBuffer[] segments) {
+        this.format = format;
+        this.count = count;
+        this.index = index;
+        this.segments = segments;
+    }
+
+    public static Dataset open(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException(fileName + " is not a dataset file.");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException(fileName + " has dataset version " + version + " instead of " + VERSION + ".");
+            }
+            byte[] formatBytes = new byte[header.get()];
+            header.get(formatBytes);
+            header.position(8 + 1 + FORMAT_BYTES);
+            long count = header.getLong();
+            int maxLength = header.getInt();
+            long indexOffset = header.getLong();
+
+            LongBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (count + 1) * 8).asLongBuffer();
+            long dataBytes = indexOffset - HEADER_BYTES;
+            ByteBuffer[] segments = new ByteBuffer[(int) Math.max(1, (dataBytes + SEGMENT_BYTES - 1) / SEGMENT_BYTES)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = i * SEGMENT_BYTES;
+                long size = Math.min(dataBytes - start, SEGMENT_BYTES + maxLength);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + start, size);
+            }
+            return new Dataset(new String(formatBytes, StandardCharsets.US_ASCII), (int) count, index, segments);
+        }
+    }
+
+    /**
+     * @return the {@code SaleSerializer} format of the documents
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return a read-only view of document {@code i}
+     */
+    public ByteBuffer get(int i) {
+        long offset = index.get(i) - HEADER_BYTES;
+        int length = (int) (index.get(i + 1) - HEADER_BYTES - offset);
+        int segment = (int) (offset / SEGMENT_BYTES);
+        int position = (int) (offset - segment * SEGMENT_BYTES);
+
+        ByteBuffer document = segments[segment].duplicate();
+        document.limit(position + length);
+        document.position(position);
+        return document.slice();
+    }
+
+    /**
+     * @return a cursor starting at worker {@code worker}'s share of {@code workers} equal shares of the documents
+     */
+    public Cursor cursor(int worker, int workers) {
+        return new Cursor((int) ((long) count * worker / workers));
+    }
+
+    /**
+     * Reads the documents one after the other, starting over after the last one.
+     * A cursor is used by one thread only.
+     */
+    public final class Cursor {
+
+        private int next;
+
+        private Cursor(int start) {
+            this.next = start;
+        }
+
+        public ByteBuffer next() {
+            ByteBuffer document = get(next);
+            if (++next == count) {
+                next = 0;
+            }
+            return document;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.gvenzl.dataset;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.SaleGenerator;
+import com.gvenzl.data.SaleSerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * Generates a {@link Dataset} of {@code maxOrders} orders into
+ * {@code datasetFile}, serialized in {@code datasetFormat} with the static
+ * data and date resolution as configured. The index is collected in a
+ * temporary file next to it and appended at the end.
+ */
+public final class DatasetWriter {
+
+    private static final int BUFFER_BYTES = 4 * 1024 * 1024;
+    // The index of a dataset has to fit into a single mapping
+    private static final long MAX_ORDERS = Integer.MAX_VALUE / 8 - 1;
+
+    private DatasetWriter() {
+    }
+
+    /**
+     * @return the size of the file in bytes
+     */
+    public static long write(Properties props, SaleGenerator generator, long orders) throws IOException {
+        if (orders <= 0 || orders > MAX_ORDERS) {
+            throw new IllegalArgumentException("A dataset requires maxOrders between 1 and " + MAX_ORDERS + ".");
+        }
+        String format = props.getProperty("datasetFormat", "json").trim();
+        byte[] formatBytes = format.getBytes(StandardCharsets.US_ASCII);
+        SaleSerializer serializer = SaleSerializer.forFormat(props, format);
+        Path file = Paths.get(props.getProperty("datasetFile"));
+        Path indexFile = Paths.get(file + ".index");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+
+            ByteBuffer data = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            ByteBuffer index = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            JsonBuffer record = new JsonBuffer(4096);
+            long offset = Dataset.HEADER_BYTES;
+            int maxLength = 0;
+            channel.position(offset);
+
+            for (long i = 0; i < orders; i++) {
+                record.reset();
+                serializer.write(generator.generateSale(), record);
+                int length = record.length();
+                if (length > data.remaining()) {
+                    drain(data, channel);
+                    if (length > data.capacity()) {
+                        writeFully(ByteBuffer.wrap(record.array(), 0, length), channel);
+                    }
+                }
+                if (length <= data.capacity()) {
+                    data.put(record.array(), 0, length);
+                }
+                if (!index.hasRemaining()) {
+                    drain(index, indexChannel);
+                }
+                index.putLong(offset);
+                offset += length;
+                maxLength = Math.max(maxLength, length);
+            }
+            drain(data, channel);
+            if (!index.hasRemaining()) {
+                drain(index, indexChannel);
+            }
+            index.putLong(offset);
+            drain(index, indexChannel);
+
+            long indexBytes = indexChannel.position();
+            long copied = 0;
+            while (copied < indexBytes) {
+                copied += channel.transferFrom(indexChannel.position(copied), offset + copied, indexBytes - copied);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(Dataset.HEADER_BYTES);
+            header.putInt(Dataset.MAGIC).putInt(Dataset.VERSION);
+            header.put((byte) formatBytes.length).put(formatBytes);
+            header.position(8 + 1 + Dataset.FORMAT_BYTES);
+            header.putLong(orders).putInt(maxLength).putLong(offset);
+            header.clear();
+            channel.write(header, 0);
+            return offset + indexBytes;
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        writeFully(buffer, channel);
+        buffer.clear();
+    }
+
+    private static void writeFully(ByteBuffer buffer, FileChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.gvenzl.metrics;
+
+import com.gvenzl.pipeline.SinkStage;
+import org.HdrHistogram.Histogram;
+
+import java.io.Closeable;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the {@link SinkMetrics} of every stage each {@code metricsIntervalSeconds}
+ * to the console and, if {@code metricsFile} is set, to a CSV or newline
+ * delimited JSON file as chosen by {@code metricsFormat}. All counts are per
+ * interval, only the queue depth is the current one.
+ */
+public class MetricsReporter implements Closeable {
+
+    private static final String CSV_HEADER = "time,sink,orders,ordersPerSec,bytesPerSec,errors,queueDepth,stalls," +
+            "latencyP50Ms,latencyP99Ms,latencyP999Ms,latencyMaxMs,serviceP50Ms,serviceP99Ms,serviceMaxMs";
+
+    private final List<SinkStage> stages;
+    private final int intervalSeconds;
+    private final boolean json;
+    private final ScheduledExecutorService timer;
+    private final long[] reportedStalls;
+    private PrintWriter file;
+    private long lastReport;
+
+    public MetricsReporter(Properties props, List<SinkStage> stages) throws IOException {
+        this.stages = stages;
+        this.reportedStalls = new long[stages.size()];
+        this.intervalSeconds = Integer.valueOf(props.getProperty("metricsIntervalSeconds", "10"));
+        this.json = props.getProperty("metricsFormat", "csv").equalsIgnoreCase("json");
+
+        String fileName = props.getProperty("metricsFile", "");
+        if (!fileName.isEmpty()) {
+            file = new PrintWriter(new FileWriter(fileName));
+            if (!json) {
+                file.println(CSV_HEADER);
+            }
+        }
+
+        lastReport = System.nanoTime();
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        if (intervalSeconds > 0) {
+            timer.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private synchronized void report() {
+        long now = System.nanoTime();
+        double seconds = (now - lastReport) / 1e9;
+        lastReport = now;
+        long time = System.currentTimeMillis();
+
+        for (int i = 0; i < stages.size(); i++) {
+            SinkStage stage = stages.get(i);
+            SinkMetrics.Snapshot s = stage.metrics().snapshot();
+            long stallsNow = stage.stalls();
+            long stalls = stallsNow - reportedStalls[i];
+            reportedStalls[i] = stallsNow;
+            System.out.println(String.format(Locale.ROOT,
+                    "%s: %.0f orders/s, %.2f MB/s, errors %d, queue %d/%d, latency ms p50 %.2f p99 %.2f p99.9 %.2f max %.2f, " +
+                    "service ms p50 %.2f p99 %.2f max %.2f",
+                    s.sink, s.orders / seconds, s.bytes / seconds / 1e6, s.errors, stage.queueDepth(), stage.queueCapacity(),
+                    millis(s.latency, 50), millis(s.latency, 99), millis(s.latency, 99.9), millis(s.latency, 100),
+                    millis(s.serviceTime, 50), millis(s.serviceTime, 99), millis(s.serviceTime, 100)));
+
+            if (file != null) {
+                writeRecord(time, stage, s, stalls, seconds);
+            }
+        }
+        if (file != null) {
+            file.flush();
+        }
+    }
+
+    private void writeRecord(long time, SinkStage stage, SinkMetrics.Snapshot s, long stalls, double seconds) {
+        if (json) {
+            file.println(String.format(Locale.ROOT,
+                    "{\"time\":%d,\"sink\":\"%s\",\"orders\":%d,\"ordersPerSec\":%.1f,\"bytesPerSec\":%.1f,\"errors\":%d," +
+                    "\"queueDepth\":%d,\"stalls\":%d,\"latencyMs\":{\"p50\":%.3f,\"p99\":%.3f,\"p999\":%.3f,\"max\":%.3f}," +
+                    "\"serviceMs\":{\"p50\":%.3f,\"p99\":%.3f,\"max\":%.3f}}",
+                    time, s.sink, s.orders, s.orders / seconds, s.bytes / seconds, s.errors, stage.queueDepth(), stalls,
+                    millis(s.latency, 50), millis(s.latency, 99), millis(s.latency, 99.9), millis(s.latency, 100),
+                    millis(s.serviceTime, 50), millis(s.serviceTime, 99), millis(s.serviceTime, 100)));
+        }
+        else {
+            file.println(String.format(Locale.ROOT,
+                    "%d,%s,%d,%.1f,%.1f,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    time, s.sink, s.orders, s.orders / seconds, s.bytes / seconds, s.errors, stage.queueDepth(), stalls,
+                    millis(s.latency, 50), millis(s.latency, 99), millis(s.latency, 99.9), millis(s.latency, 100),
+                    millis(s.serviceTime, 50), millis(s.serviceTime, 99), millis(s.serviceTime, 100)));
+        }
+    }
+
+    static double millis(Histogram histogram, double percentile) {
+        long nanos = percentile >= 100 ? histogram.getMaxValue() : histogram.getValueAtPercentile(percentile);
+        return nanos / 1e6;
+    }
+
+    /**
+     * Prints the throughput and latencies of the whole run, as far as they
+     * have been reported, i.e. call it after {@link #close()}.
+     */
+    public void printSummary(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.println(String.format(Locale.ROOT, "Summary after %.1f seconds:", seconds));
+        for (SinkStage stage : stages) {
+            SinkMetrics.Snapshot s = stage.metrics().total();
+            System.out.println(String.format(Locale.ROOT,
+                    "%s: %d orders, %.0f orders/s, %.2f MB/s, errors %d, stalls %d, " +
+                    "latency ms p50 %.2f p99 %.2f p99.9 %.2f max %.2f, service ms p50 %.2f p99 %.2f max %.2f",
+                    s.sink, s.orders, s.orders / seconds, s.bytes / seconds / 1e6, s.errors, stage.stalls(),
+                    millis(s.latency, 50), millis(s.latency, 99), millis(s.latency, 99.9), millis(s.latency, 100),
+                    millis(s.serviceTime, 50), millis(s.serviceTime, 99), millis(s.serviceTime, 100)));
+        }
+    }
+
+    /**
+     * Stops the periodic reports after reporting the last interval.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        if (intervalSeconds > 0) {
+            report();
+        }
+        else {
+            for (SinkStage stage : stages) {
+                stage.metrics().snapshot();
+            }
+        }
+        if (file != null) {
+            file.close();
+        }
+    }
+}
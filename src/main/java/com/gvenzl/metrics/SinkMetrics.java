@@ -0,0 +1,100 @@
+package com.gvenzl.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput, error and latency figures of one sink. Recording is wait-free,
+ * so sinks record every order and every round trip even at full speed.
+ * <p>
+ * Two latencies are kept: the order latency from the intended start of an
+ * order until the sink has persisted it, and the service time of a single
+ * operation against the target, e.g. executeBatch and commit, or an HTTP post.
+ */
+public class SinkMetrics {
+
+    private final String name;
+    private final LongAdder orders = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Recorder latency = new Recorder(3);
+    private final Recorder serviceTime = new Recorder(3);
+
+    private final Histogram totalLatency = new Histogram(3);
+    private final Histogram totalServiceTime = new Histogram(3);
+    private Histogram intervalLatency;
+    private Histogram intervalServiceTime;
+    private long reportedOrders;
+    private long reportedBytes;
+    private long reportedErrors;
+
+    public SinkMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordOrder(long intendedStartNanos, long completedNanos, int orderBytes) {
+        orders.increment();
+        bytes.add(orderBytes);
+        latency.recordValue(Math.max(0, completedNanos - intendedStartNanos));
+    }
+
+    public void recordServiceTime(long startNanos, long endNanos) {
+        serviceTime.recordValue(Math.max(0, endNanos - startNanos));
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Takes the figures recorded since the previous snapshot and adds them to the totals.
+     */
+    public synchronized Snapshot snapshot() {
+        intervalLatency = latency.getIntervalHistogram(intervalLatency);
+        intervalServiceTime = serviceTime.getIntervalHistogram(intervalServiceTime);
+        totalLatency.add(intervalLatency);
+        totalServiceTime.add(intervalServiceTime);
+
+        long ordersNow = orders.sum();
+        long bytesNow = bytes.sum();
+        long errorsNow = errors.sum();
+        Snapshot snapshot = new Snapshot(name, ordersNow - reportedOrders, bytesNow - reportedBytes,
+                errorsNow - reportedErrors, intervalLatency.copy(), intervalServiceTime.copy());
+        reportedOrders = ordersNow;
+        reportedBytes = bytesNow;
+        reportedErrors = errorsNow;
+        return snapshot;
+    }
+
+    /**
+     * @return the figures since the start up to the last snapshot
+     */
+    public synchronized Snapshot total() {
+        return new Snapshot(name, reportedOrders, reportedBytes, reportedErrors,
+                totalLatency.copy(), totalServiceTime.copy());
+    }
+
+    public static class Snapshot {
+        public final String sink;
+        public final long orders;
+        public final long bytes;
+        public final long errors;
+        public final Histogram latency;
+        public final Histogram serviceTime;
+
+        Snapshot(String sink, long orders, long bytes, long errors, Histogram latency, Histogram serviceTime) {
+            this.sink = sink;
+            this.orders = orders;
+            this.bytes = bytes;
+            this.errors = errors;
+            this.latency = latency;
+            this.serviceTime = serviceTime;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.gvenzl.pipeline;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.Sale;
+import com.gvenzl.data.SaleSerializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A generated sale on its way from a generator to the sinks, or, when
+ * replaying a dataset, its already serialized document.
+ */
+public final class Order {
+
+    /** The sale, null when replaying */
+    public final Sale sale;
+
+    /** The read-only document when replaying, shared by all sinks, null otherwise */
+    public final ByteBuffer document;
+
+    /**
+     * {@link System#nanoTime()} at which the order was scheduled to start,
+     * latencies are measured from here.
+     */
+    public final long intendedStart;
+
+    public Order(Sale sale, long intendedStart) {
+        this.sale = sale;
+        this.document = null;
+        this.intendedStart = intendedStart;
+    }
+
+    public Order(ByteBuffer document, long intendedStart) {
+        this.sale = null;
+        this.document = document;
+        this.intendedStart = intendedStart;
+    }
+
+    /**
+     * Appends the replayed document as is, or else the sale serialized with the serializer.
+     */
+    public void writeTo(SaleSerializer serializer, JsonBuffer out) {
+        if (document != null) {
+            out.append(document);
+        }
+        else {
+            serializer.write(sale, out);
+        }
+    }
+
+    /**
+     * The replayed document copied once into an exact size array, or else the
+     * sale serialized through the record buffer.
+     */
+    public byte[] toByteArray(SaleSerializer serializer, JsonBuffer record) {
+        if (document != null) {
+            byte[] bytes = new byte[document.remaining()];
+            document.duplicate().get(bytes);
+            return bytes;
+        }
+        record.reset();
+        serializer.write(sale, record);
+        return record.toByteArray();
+    }
+}
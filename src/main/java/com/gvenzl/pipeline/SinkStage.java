@@ -0,0 +1,199 @@
+package com.gvenzl.pipeline;
+
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.sink.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One sink stage of the pipeline: a bounded {@link RingBuffer} filled by the
+ * generator threads and drained by a configurable amount of consumer threads.
+ * Generators are held back while the buffer is full. The sinks are created
+ * with the stage, the consumer threads only run once the stage is started.
+ * <p>
+ * Idle consumers back off exponentially up to a millisecond and then park
+ * until a generator publishes an order or the stage closes, so that neither
+ * a single idle consumer nor thousands of them keep polling the queue.
+ */
+public class SinkStage {
+
+    public interface SinkFactory {
+        Sink create() throws Exception;
+    }
+
+    private static final long IDLE_NANOS = 50_000;
+    private static final long MAX_IDLE_NANOS = 1_000_000;
+
+    /**
+     * A parked consumer, queued at most once in {@link #waiters}.
+     */
+    private static final class Waiter {
+        final Thread thread = Thread.currentThread();
+        final AtomicBoolean queued = new AtomicBoolean();
+    }
+
+    private final String name;
+    private final RingBuffer<Order> queue;
+    private final List<Thread> consumers = new ArrayList<>();
+    private final AtomicInteger liveConsumers = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final SinkMetrics metrics;
+    private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private volatile boolean closing = false;
+
+    public SinkStage(String name, int capacity, int consumerCount, SinkMetrics metrics, SinkFactory factory,
+                     ThreadFactory threads) throws Exception {
+        this.name = name;
+        this.metrics = metrics;
+        this.queue = new RingBuffer<>(capacity);
+
+        for (int i = 0; i < consumerCount; i++) {
+            Sink sink = factory.create();
+            consumers.add(threads.newThread(() -> consume(sink)));
+        }
+        liveConsumers.set(consumerCount);
+    }
+
+    /**
+     * Starts the consumer threads, once everything else has been set up successfully.
+     */
+    public void start() {
+        for (Thread t : consumers) {
+            t.start();
+        }
+    }
+
+    /**
+     * Hands an order to the stage, waiting while the queue is full.
+     * @return false if the stage has no consumers left to take the order
+     */
+    public boolean publish(Order order) {
+        if (queue.offer(order)) {
+            signal();
+            return true;
+        }
+        stalls.incrementAndGet();
+        // Park does not wait while the interrupt flag is set, so hold it back until the order is queued
+        boolean interrupted = false;
+        try {
+            do {
+                if (liveConsumers.get() == 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(IDLE_NANOS);
+                interrupted |= Thread.interrupted();
+            } while (!queue.offer(order));
+            signal();
+            return true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Wakes one parked consumer, if any, for a newly published order.
+     */
+    private void signal() {
+        Waiter waiter = waiters.poll();
+        if (waiter != null) {
+            waiter.queued.set(false);
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    /**
+     * Parks the consumer until it is signalled. The queue is checked again after
+     * registering, so that an order published in between is not missed.
+     */
+    private void await(Waiter waiter) {
+        if (waiter.queued.compareAndSet(false, true)) {
+            waiters.offer(waiter);
+        }
+        if (queue.size() == 0 && !closing) {
+            LockSupport.park(this);
+        }
+    }
+
+    private void consume(Sink sink) {
+        try {
+            Waiter waiter = new Waiter();
+            long idleNanos = IDLE_NANOS;
+            while (true) {
+                Order order = queue.poll();
+                if (order == null) {
+                    if (closing) {
+                        break;
+                    }
+                    if (idleNanos < MAX_IDLE_NANOS) {
+                        LockSupport.parkNanos(idleNanos);
+                        idleNanos *= 2;
+                    }
+                    else {
+                        await(waiter);
+                    }
+                    continue;
+                }
+                idleNanos = IDLE_NANOS;
+                sink.write(order);
+                processed.incrementAndGet();
+            }
+            sink.flush();
+        } catch (Exception e) {
+            metrics.recordError();
+            System.out.println("Error in " + name + " sink: " + e.getMessage());
+        } finally {
+            liveConsumers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Lets the consumers drain the queue, flush their sinks and waits for them to exit.
+     * Must only be called once all generators have stopped publishing.
+     */
+    public void close() throws InterruptedException {
+        closing = true;
+        for (Thread t : consumers) {
+            LockSupport.unpark(t);
+        }
+        for (Thread t : consumers) {
+            t.join();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SinkMetrics metrics() {
+        return metrics;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public int queueCapacity() {
+        return queue.capacity();
+    }
+
+    public long processed() {
+        return processed.get();
+    }
+
+    /**
+     * @return how often a generator found the queue full and had to wait
+     */
+    public long stalls() {
+        return stalls.get();
+    }
+}
@@ -0,0 +1,91 @@
+package com.gvenzl.sink;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses a block of output into a self-contained gzip member, zstd frame
+ * or lz4 frame. Concatenated members/frames form a valid stream for the
+ * respective decompressor, so blocks can be compressed independently and in
+ * parallel.
+ */
+public abstract class BlockCompressor {
+
+    public abstract byte[] compress(byte[] data, int length) throws IOException;
+
+    public abstract String extension();
+
+    /**
+     * @return the compressor for {@code gzip}, {@code zstd} or {@code lz4}, or null for {@code none}
+     */
+    public static BlockCompressor forName(String name) {
+        switch (name.toLowerCase()) {
+            case "none":
+                return null;
+            case "gzip":
+                return new StreamCompressor(".gz") {
+                    @Override
+                    OutputStream wrap(OutputStream out) throws IOException {
+                        return new GZIPOutputStream(out, 64 * 1024);
+                    }
+                };
+            case "lz4":
+                return new StreamCompressor(".lz4") {
+                    @Override
+                    OutputStream wrap(OutputStream out) throws IOException {
+                        return new LZ4FrameOutputStream(out);
+                    }
+                };
+            case "zstd":
+                return new BlockCompressor() {
+                    @Override
+                    public byte[] compress(byte[] data, int length) {
+                        byte[] frame = new byte[(int) Zstd.compressBound(length)];
+                        long size = Zstd.compressByteArray(frame, 0, frame.length, data, 0, length, Zstd.defaultCompressionLevel());
+                        if (Zstd.isError(size)) {
+                            throw new IllegalStateException("zstd compression failed: " + Zstd.getErrorName(size));
+                        }
+                        return Arrays.copyOf(frame, (int) size);
+                    }
+
+                    @Override
+                    public String extension() {
+                        return ".zst";
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Unknown output file compression: " + name);
+        }
+    }
+
+    private abstract static class StreamCompressor extends BlockCompressor {
+
+        private final String extension;
+
+        StreamCompressor(String extension) {
+            this.extension = extension;
+        }
+
+        abstract OutputStream wrap(OutputStream out) throws IOException;
+
+        @Override
+        public byte[] compress(byte[] data, int length) throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4);
+            try (OutputStream out = wrap(compressed)) {
+                out.write(data, 0, length);
+            }
+            return compressed.toByteArray();
+        }
+
+        @Override
+        public String extension() {
+            return extension;
+        }
+    }
+}
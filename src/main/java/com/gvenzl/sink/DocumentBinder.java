@@ -0,0 +1,63 @@
+package com.gvenzl.sink;
+
+import oracle.jdbc.OracleType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds a UTF-8 encoded JSON or OSON document to a statement parameter according to
+ * the {@code tableColumnDataType} of the target column. A binder is used by
+ * one thread only.
+ */
+public abstract class DocumentBinder {
+
+    public abstract void bind(PreparedStatement stmt, int index, byte[] document) throws SQLException;
+
+    /**
+     * @return the {@code SaleSerializer} format the documents have to be in
+     */
+    public String format() {
+        return "json";
+    }
+
+    public static DocumentBinder forType(String dataType) {
+        switch (dataType.toUpperCase()) {
+            case "BLOB":
+                return new DocumentBinder() {
+                    @Override
+                    public void bind(PreparedStatement stmt, int index, byte[] document) throws SQLException {
+                        stmt.setBytes(index, document);
+                    }
+                };
+            case "JSON":
+                return new OsonBinder();
+            case "CLOB":
+            default:
+                return new DocumentBinder() {
+                    @Override
+                    public void bind(PreparedStatement stmt, int index, byte[] document) throws SQLException {
+                        stmt.setString(index, new String(document, StandardCharsets.UTF_8));
+                    }
+                };
+        }
+    }
+
+    /**
+     * Binds documents already encoded to OSON, the binary format of the JSON
+     * data type of Oracle Database 21c and later, so the database does not parse text.
+     */
+    private static class OsonBinder extends DocumentBinder {
+
+        @Override
+        public void bind(PreparedStatement stmt, int index, byte[] document) throws SQLException {
+            stmt.setObject(index, document, OracleType.JSON);
+        }
+
+        @Override
+        public String format() {
+            return "oson";
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.gvenzl.sink;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.SaleSerializer;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes orders in the {@code outputFileFormat} through a {@link FileChannel},
+ * staging them in a large direct buffer. Text formats are written one order
+ * per line, binary ones prefixed by a four byte length. The file stage runs
+ * a single consumer thread, so all generators share this one writer.
+ * <p>
+ * With {@code outputFileMaxBytes} or {@code outputFileRotateSeconds} set the
+ * output is rotated, numbering the files before their extension, e.g.
+ * {@code orders-00001.json}. {@code outputFileSync} controls when data is
+ * forced to disk: {@code none}, on {@code rotate} and close, or on every
+ * buffer {@code flush}.
+ * <p>
+ * With {@code outputFileCompression} set to {@code gzip}, {@code zstd} or
+ * {@code lz4}, every full buffer is handed to a pool of
+ * {@code compressionThreads} as an independent block and the compressed
+ * blocks are written in order. Rotation then applies to uncompressed bytes.
+ */
+public class FileSink implements Sink, Closeable {
+
+    private enum SyncPolicy { NONE, ROTATE, FLUSH }
+
+    private final String fileName;
+    private final int bufferSize;
+    private final long maxBytes;
+    private final long rotateNanos;
+    private final SyncPolicy sync;
+    private final boolean rotate;
+    private final SinkMetrics metrics;
+    private final SaleSerializer serializer;
+    private final boolean text;
+    private final JsonBuffer record = new JsonBuffer(4096);
+
+    private final BlockCompressor compressor;
+    private ExecutorService compressionPool;
+    private int maxPendingBlocks;
+    private final ArrayDeque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private final ConcurrentLinkedQueue<byte[]> freeBlocks = new ConcurrentLinkedQueue<>();
+
+    private ByteBuffer buffer;
+    private FileChannel channel;
+    private int fileNumber = 0;
+    private long fileBytes;
+    private long fileOpened;
+
+    public FileSink(Properties props, SinkMetrics metrics) throws IOException {
+        this.metrics = metrics;
+        serializer = SaleSerializer.forProperty(props, "outputFileFormat");
+        text = serializer.isText();
+        fileName = props.getProperty("outputFileName");
+        bufferSize = Integer.valueOf(props.getProperty("outputFileBufferBytes", "4194304"));
+        maxBytes = Long.valueOf(props.getProperty("outputFileMaxBytes", "0"));
+        rotateNanos = TimeUnit.SECONDS.toNanos(Long.valueOf(props.getProperty("outputFileRotateSeconds", "0")));
+        sync = SyncPolicy.valueOf(props.getProperty("outputFileSync", "none").toUpperCase());
+        rotate = maxBytes > 0 || rotateNanos > 0;
+        compressor = BlockCompressor.forName(props.getProperty("outputFileCompression", "none"));
+
+        if (compressor == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        else {
+            String threads = props.getProperty("compressionThreads", "").trim();
+            int compressionThreads = threads.isEmpty() ? Runtime.getRuntime().availableProcessors() : Integer.valueOf(threads);
+            maxPendingBlocks = compressionThreads * 2;
+            AtomicInteger threadNumber = new AtomicInteger();
+            compressionPool = Executors.newFixedThreadPool(compressionThreads, r -> {
+                Thread t = new Thread(r, "file-compression-" + threadNumber.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            });
+            buffer = ByteBuffer.wrap(new byte[bufferSize]);
+        }
+        open();
+    }
+
+    @Override
+    public void write(Order order) throws IOException {
+        // Replayed documents are put into the staging buffer as is, without going through the record
+        ByteBuffer document = order.document != null ? order.document.duplicate() : null;
+        if (document == null) {
+            record.reset();
+            serializer.write(order.sale, record);
+        }
+        int size = document != null ? document.remaining() : record.length();
+        int length = size + (text ? 1 : 4);
+        long pending = fileBytes + buffer.position();
+
+        if (rotate && pending > 0 &&
+                ((maxBytes > 0 && pending + length > maxBytes) ||
+                 (rotateNanos > 0 && System.nanoTime() - fileOpened >= rotateNanos))) {
+            rotate();
+        }
+
+        if (length > buffer.remaining()) {
+            drain();
+            if (length > buffer.capacity()) {
+                writeOversized(length, document);
+                metrics.recordOrder(order.intendedStart, System.nanoTime(), length);
+                return;
+            }
+        }
+        putRecord(buffer, document);
+        metrics.recordOrder(order.intendedStart, System.nanoTime(), length);
+    }
+
+    /**
+     * Text records are terminated by a newline, binary ones prefixed by their length.
+     * Puts the replayed document if there is one, otherwise the serialized record.
+     */
+    private void putRecord(ByteBuffer target, ByteBuffer document) {
+        int size = document != null ? document.remaining() : record.length();
+        if (!text) {
+            target.putInt(size);
+        }
+        if (document != null) {
+            target.put(document);
+        }
+        else {
+            target.put(record.array(), 0, size);
+        }
+        if (text) {
+            target.put((byte) '\n');
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        writeBlocks(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            closeFile();
+        } finally {
+            if (compressionPool != null) {
+                compressionPool.shutdown();
+            }
+        }
+    }
+
+    private void closeFile() throws IOException {
+        flush();
+        if (sync != SyncPolicy.NONE) {
+            channel.force(false);
+        }
+        channel.close();
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        fileNumber++;
+        open();
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(Paths.get(currentFileName()),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        fileBytes = 0;
+        fileOpened = System.nanoTime();
+    }
+
+    private String currentFileName() {
+        String name = fileName;
+        if (rotate) {
+            String number = String.format("-%05d", fileNumber);
+            int dot = name.lastIndexOf('.');
+            if (dot <= name.lastIndexOf('/') + 1) {
+                name = name + number;
+            }
+            else {
+                name = name.substring(0, dot) + number + name.substring(dot);
+            }
+        }
+        if (compressor != null) {
+            name = name + compressor.extension();
+        }
+        return name;
+    }
+
+    private void drain() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        if (compressor == null) {
+            buffer.flip();
+            fileBytes += writeFully(buffer);
+            buffer.clear();
+            if (sync == SyncPolicy.FLUSH) {
+                channel.force(false);
+            }
+        }
+        else {
+            submitBlock(buffer.array(), buffer.position());
+            byte[] next = freeBlocks.poll();
+            buffer = ByteBuffer.wrap(next != null ? next : new byte[bufferSize]);
+        }
+    }
+
+    private void writeOversized(int length, ByteBuffer document) throws IOException {
+        byte[] block = new byte[length];
+        putRecord(ByteBuffer.wrap(block), document);
+        if (compressor == null) {
+            fileBytes += writeFully(ByteBuffer.wrap(block));
+        }
+        else {
+            submitBlock(block, block.length);
+        }
+    }
+
+    private void submitBlock(byte[] block, int length) throws IOException {
+        writeBlocks(maxPendingBlocks - 1);
+        pendingBlocks.add(compressionPool.submit(() -> {
+            try {
+                return compressor.compress(block, length);
+            } finally {
+                if (block.length == bufferSize) {
+                    freeBlocks.offer(block);
+                }
+            }
+        }));
+        fileBytes += length;
+    }
+
+    /**
+     * Writes compressed blocks in submission order until at most
+     * {@code maxPending} are outstanding.
+     */
+    private void writeBlocks(int maxPending) throws IOException {
+        while (pendingBlocks.size() > maxPending) {
+            try {
+                writeFully(ByteBuffer.wrap(pendingBlocks.poll().get()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while compressing output", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Could not compress output: " + e.getCause().getMessage(), e.getCause());
+            }
+            if (sync == SyncPolicy.FLUSH) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private long writeFully(ByteBuffer data) throws IOException {
+        long start = System.nanoTime();
+        long written = 0;
+        while (data.hasRemaining()) {
+            written += channel.write(data);
+        }
+        metrics.recordServiceTime(start, System.nanoTime());
+        return written;
+    }
+}
@@ -0,0 +1,102 @@
+package com.gvenzl.sink;
+
+import com.gvenzl.DatabasePool;
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.SaleSerializer;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.Order;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Collects orders of one consumer thread into a batch and inserts it over a
+ * connection borrowed from the {@link DatabasePool} only for the time of the flush.
+ * <p>
+ * The batch is sent as arrays of {@code rowsPerRoundTrip} rows. With
+ * {@code jdbcInsertMode=direct} every array is a direct-path insert above the
+ * high water mark, which has to be committed before the next one.
+ */
+public class JdbcSink implements Sink {
+
+    private final DatabasePool pool;
+    private final String sql;
+    private final DocumentBinder binder;
+    private final Order[] rows;
+    private final byte[][] documents;
+    private final SaleSerializer serializer;
+    private final JsonBuffer record = new JsonBuffer(4096);
+    private final SinkMetrics metrics;
+    private final boolean directPath;
+    private final int rowsPerRoundTrip;
+    private int count = 0;
+
+    public JdbcSink(Properties props, DatabasePool pool, SinkMetrics metrics) {
+        this.pool = pool;
+        this.metrics = metrics;
+        this.directPath = props.getProperty("jdbcInsertMode", "conventional").equalsIgnoreCase("direct");
+        this.sql = "INSERT " + (directPath ? "/*+ APPEND_VALUES */ " : "") + "INTO " + props.getProperty("tableName") +
+                    " (" + props.getProperty("tableColumnName") + ") VALUES(?)";
+        this.binder = DocumentBinder.forType(props.getProperty("tableColumnDataType", "VARCHAR2"));
+        this.rows = new Order[Integer.valueOf(props.getProperty("batchSize"))];
+        this.documents = new byte[rows.length][];
+        this.serializer = SaleSerializer.forFormat(props, binder.format());
+
+        String arraySize = props.getProperty("rowsPerRoundTrip", "").trim();
+        this.rowsPerRoundTrip = arraySize.isEmpty() ? rows.length : Math.min(Integer.valueOf(arraySize), rows.length);
+    }
+
+    @Override
+    public void write(Order order) throws SQLException {
+        documents[count] = order.toByteArray(serializer, record);
+        rows[count++] = order;
+        if (count == rows.length) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (count == 0) {
+            return;
+        }
+
+        try (Connection conn = pool.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int committed = 0;
+                for (int from = 0; from < count; from += rowsPerRoundTrip) {
+                    int to = Math.min(from + rowsPerRoundTrip, count);
+                    for (int i = from; i < to; i++) {
+                        binder.bind(stmt, 1, documents[i]);
+                        stmt.addBatch();
+                    }
+                    long start = System.nanoTime();
+                    stmt.executeBatch();
+                    if (directPath || to == count) {
+                        conn.commit();
+                        long completed = System.nanoTime();
+                        metrics.recordServiceTime(start, completed);
+                        for (int i = committed; i < to; i++) {
+                            metrics.recordOrder(rows[i].intendedStart, completed, documents[i].length);
+                        }
+                        committed = to;
+                    }
+                    else {
+                        metrics.recordServiceTime(start, System.nanoTime());
+                    }
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                rows[i] = null;
+                documents[i] = null;
+            }
+            count = 0;
+        }
+    }
+}
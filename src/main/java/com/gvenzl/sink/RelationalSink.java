@@ -0,0 +1,140 @@
+package com.gvenzl.sink;
+
+import com.gvenzl.DatabasePool;
+import com.gvenzl.data.Coffee;
+import com.gvenzl.data.Population;
+import com.gvenzl.data.Sale;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.Order;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Properties;
+import java.util.TimeZone;
+
+/**
+ * Loads the orders of one consumer thread normalized into an order header
+ * table, {@code ordersTable}, and an order items table, {@code orderItemsTable}.
+ * A batch of headers and the batch of their items are inserted and committed
+ * in one transaction. The order ids for a batch are fetched from the
+ * sequence {@code ordersSequence} in a single round trip.
+ */
+public class RelationalSink implements Sink {
+
+    private final DatabasePool pool;
+    private final SinkMetrics metrics;
+    private final String idSql;
+    private final String ordersSql;
+    private final String itemsSql;
+    private final Order[] rows;
+    private final long[] ids;
+    private final Population population = Population.get();
+    private final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    private int count = 0;
+
+    public RelationalSink(Properties props, DatabasePool pool, SinkMetrics metrics) {
+        this.pool = pool;
+        this.metrics = metrics;
+        this.idSql = "SELECT " + props.getProperty("ordersSequence", "orders_seq") +
+                        ".NEXTVAL FROM dual CONNECT BY LEVEL <= ?";
+        this.ordersSql = "INSERT INTO " + props.getProperty("ordersTable", "order_headers") +
+                        " (order_id, loyalty_card_no, order_date, address, city, state, zipcode, country, sales_amount)" +
+                        " VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        this.itemsSql = "INSERT INTO " + props.getProperty("orderItemsTable", "order_items") +
+                        " (order_id, line_no, item, item_size, sales_amount, coffee_used_gram)" +
+                        " VALUES(?, ?, ?, ?, ?, ?)";
+        this.rows = new Order[Integer.valueOf(props.getProperty("batchSize"))];
+        this.ids = new long[rows.length];
+    }
+
+    @Override
+    public void write(Order order) throws SQLException {
+        rows[count++] = order;
+        if (count == rows.length) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (count == 0) {
+            return;
+        }
+
+        try (Connection conn = pool.getConnection()) {
+            try (PreparedStatement idStmt = conn.prepareStatement(idSql);
+                 PreparedStatement ordersStmt = conn.prepareStatement(ordersSql);
+                 PreparedStatement itemsStmt = conn.prepareStatement(itemsSql)) {
+
+                long start = System.nanoTime();
+                fetchIds(idStmt);
+                for (int i = 0; i < count; i++) {
+                    bindOrder(ordersStmt, itemsStmt, ids[i], rows[i].sale);
+                }
+                ordersStmt.executeBatch();
+                itemsStmt.executeBatch();
+                conn.commit();
+
+                long completed = System.nanoTime();
+                metrics.recordServiceTime(start, completed);
+                for (int i = 0; i < count; i++) {
+                    // No document, so no bytes are recorded
+                    metrics.recordOrder(rows[i].intendedStart, completed, 0);
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                rows[i] = null;
+            }
+            count = 0;
+        }
+    }
+
+    private void fetchIds(PreparedStatement idStmt) throws SQLException {
+        idStmt.setInt(1, count);
+        idStmt.setFetchSize(count);
+        try (ResultSet rs = idStmt.executeQuery()) {
+            int i = 0;
+            while (rs.next()) {
+                ids[i++] = rs.getLong(1);
+            }
+            if (i != count) {
+                throw new SQLException("Expected " + count + " order ids but got " + i);
+            }
+        }
+    }
+
+    private void bindOrder(PreparedStatement ordersStmt, PreparedStatement itemsStmt, long id, Sale sale)
+            throws SQLException {
+        int store = sale.store;
+        ordersStmt.setLong(1, id);
+        ordersStmt.setInt(2, population.getLoyaltyCardNo(sale.customer));
+        ordersStmt.setTimestamp(3, new Timestamp(sale.epochMillis), utc);
+        ordersStmt.setString(4, population.getAddress(store));
+        ordersStmt.setString(5, population.getCity(store));
+        ordersStmt.setString(6, population.getState(store));
+        ordersStmt.setInt(7, population.getZipcode(store));
+        ordersStmt.setString(8, population.getCountry(store));
+        ordersStmt.setBigDecimal(9, BigDecimal.valueOf(sale.salesCents, 2));
+        ordersStmt.addBatch();
+
+        for (int line = 0; line < sale.items.length; line++) {
+            Coffee.CoffeeEntry coffee = Coffee.get(sale.items[line]);
+            itemsStmt.setLong(1, id);
+            itemsStmt.setInt(2, line + 1);
+            itemsStmt.setString(3, coffee.item);
+            itemsStmt.setString(4, coffee.size);
+            itemsStmt.setBigDecimal(5, BigDecimal.valueOf(coffee.cents, 2));
+            itemsStmt.setInt(6, coffee.coffeeUsedGram);
+            itemsStmt.addBatch();
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.gvenzl.sink;
+
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.JsonSaleSerializer;
+import com.gvenzl.data.SaleSerializer;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.Order;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.util.EntityUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posts orders in the {@code restFormat} to a REST endpoint over one shared,
+ * pooled async HTTP client.
+ * The number of outstanding requests is bounded by {@code restMaxInFlight};
+ * callers block in {@link #write(Order)} once the window is full. The sink is
+ * thread safe and shared by all consumer threads of the REST stage.
+ * <p>
+ * With {@code restBatchFormat} set to {@code array} or {@code ndjson}, orders
+ * from all workers are accumulated and sent as one request once
+ * {@code batchSize} orders or {@code restBatchMaxBytes} are reached, or the
+ * oldest pending order is {@code restBatchLingerMs} old.
+ */
+public class RestSink implements Sink, Closeable {
+
+    private static final ContentType NDJSON = ContentType.create("application/x-ndjson", "UTF-8");
+
+    private enum BatchFormat { NONE, ARRAY, NDJSON }
+
+    private static final class Request {
+        final byte[] payload;
+        final ContentType contentType;
+        final long[] intendedStarts;
+        final int[] sizes;
+
+        Request(byte[] payload, ContentType contentType, long[] intendedStarts, int[] sizes) {
+            this.payload = payload;
+            this.contentType = contentType;
+            this.intendedStarts = intendedStarts;
+            this.sizes = sizes;
+        }
+    }
+
+    private final String url;
+    private final CloseableHttpAsyncClient client;
+    private final int maxInFlight;
+    private final int timeoutMs;
+    private final Semaphore inFlight;
+    private final SinkMetrics metrics;
+    private final ThreadLocal<SaleSerializer> serializers;
+    private final ThreadLocal<JsonBuffer> records = ThreadLocal.withInitial(() -> new JsonBuffer(4096));
+    private final ContentType payloadType;
+    private final ContentType batchType;
+
+    private final BatchFormat batchFormat;
+    private final int batchSize;
+    private final int batchMaxBytes;
+    private final long batchLingerNanos;
+    private final JsonBuffer batch = new JsonBuffer(64 * 1024);
+    private long[] batchStarts;
+    private int[] batchSizes;
+    private int batchCount = 0;
+    private long batchStarted;
+    private ScheduledExecutorService lingerTimer;
+
+    public RestSink(Properties props, SinkMetrics metrics) throws GeneralSecurityException {
+
+        this.metrics = metrics;
+
+        url = props.getProperty("restURL");
+        int maxConnections = Integer.valueOf(props.getProperty("restMaxConnections", "20"));
+        maxInFlight = Integer.valueOf(props.getProperty("restMaxInFlight", "100"));
+        inFlight = new Semaphore(maxInFlight);
+        timeoutMs = Integer.valueOf(props.getProperty("restTimeoutMs", "30000"));
+
+        batchFormat = BatchFormat.valueOf(props.getProperty("restBatchFormat", "none").toUpperCase());
+        serializers = ThreadLocal.withInitial(() -> SaleSerializer.forProperty(props, "restFormat"));
+        SaleSerializer serializer = serializers.get();
+        boolean json = serializer instanceof JsonSaleSerializer;
+        // Pretty printed records span several lines, which would break the one record per line of NDJSON
+        boolean singleLine = serializer.isText() && !props.getProperty("restFormat", "json").equalsIgnoreCase("pretty");
+        if ((batchFormat == BatchFormat.ARRAY && !json) || (batchFormat == BatchFormat.NDJSON && !singleLine)) {
+            throw new IllegalArgumentException("restBatchFormat " + batchFormat.name().toLowerCase() +
+                    " does not support restFormat " + props.getProperty("restFormat"));
+        }
+        payloadType = ContentType.create(serializer.contentType(), serializer.isText() ? "UTF-8" : null);
+        batchType = batchFormat == BatchFormat.NDJSON && json ? NDJSON : payloadType;
+        batchSize = Integer.valueOf(props.getProperty("batchSize"));
+        batchStarts = new long[batchSize];
+        batchSizes = new int[batchSize];
+        batchMaxBytes = Integer.valueOf(props.getProperty("restBatchMaxBytes", "1048576"));
+        long lingerMs = Long.valueOf(props.getProperty("restBatchLingerMs", "100"));
+        batchLingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+
+        TrustManager[] trustAllCerts = new TrustManager[] {
+                new X509TrustManager() {
+                    public X509Certificate[] getAcceptedIssuers() {
+                        return new X509Certificate[0];
+                    }
+                    public void checkClientTrusted(X509Certificate[] certs, String authType) {
+                    }
+                    public void checkServerTrusted(X509Certificate[] certs, String authType) {
+                    }
+                }
+            };
+
+        SSLContext ctx = SSLContext.getInstance("TLS");
+        ctx.init(null, trustAllCerts, new SecureRandom());
+
+        // Without timeouts a stalled endpoint would hold its in-flight permits, and with them close(), forever
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(timeoutMs)
+                .setConnectTimeout(timeoutMs)
+                .setSocketTimeout(timeoutMs)
+                .build();
+
+        client = HttpAsyncClients.custom()
+                    .setDefaultRequestConfig(requestConfig)
+                    .setSSLContext(ctx)
+                    .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                    .setMaxConnPerRoute(maxConnections)
+                    .setMaxConnTotal(maxConnections)
+                    .build();
+        client.start();
+
+        if (batchFormat != BatchFormat.NONE && lingerMs > 0) {
+            lingerTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "rest-batch-linger");
+                t.setDaemon(true);
+                return t;
+            });
+            long period = Math.max(1, lingerMs / 2);
+            lingerTimer.scheduleAtFixedRate(this::flushIfLingering, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void write(Order order) throws InterruptedException {
+
+        JsonBuffer record = records.get();
+        if (batchFormat == BatchFormat.NONE) {
+            byte[] payload = order.toByteArray(serializers.get(), record);
+            send(new Request(payload, payloadType, new long[] { order.intendedStart }, new int[] { payload.length }));
+            return;
+        }
+
+        // Replayed documents are appended to the batch as is, without going through the record
+        if (order.document == null) {
+            record.reset();
+            order.writeTo(serializers.get(), record);
+        }
+        int size = order.document != null ? order.document.remaining() : record.length();
+
+        Request full = null;
+        Request request = null;
+        synchronized (this) {
+            if (batchCount > 0 && batch.length() + size + 2 > batchMaxBytes) {
+                full = takeBatch();
+            }
+            appendToBatch(order.document, record, size, order.intendedStart);
+            if (batchCount >= batchSize || batch.length() >= batchMaxBytes) {
+                request = takeBatch();
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        if (request != null) {
+            send(request);
+        }
+    }
+
+    private void appendToBatch(ByteBuffer document, JsonBuffer record, int size, long intendedStart) {
+        if (batchCount == 0) {
+            batchStarted = System.nanoTime();
+            if (batchFormat == BatchFormat.ARRAY) {
+                batch.append('[');
+            }
+        }
+        else if (batchFormat == BatchFormat.ARRAY) {
+            batch.append(',');
+        }
+
+        if (document != null) {
+            batch.append(document);
+        }
+        else {
+            batch.append(record);
+        }
+        if (batchFormat == BatchFormat.NDJSON) {
+            batch.append('\n');
+        }
+        batchStarts[batchCount] = intendedStart;
+        batchSizes[batchCount++] = size;
+    }
+
+    private Request takeBatch() {
+        if (batchFormat == BatchFormat.ARRAY) {
+            batch.append(']');
+        }
+        Request request = new Request(batch.toByteArray(), batchType,
+                Arrays.copyOf(batchStarts, batchCount), Arrays.copyOf(batchSizes, batchCount));
+        batch.reset();
+        batchCount = 0;
+        return request;
+    }
+
+    private void flushIfLingering() {
+        Request request = null;
+        synchronized (this) {
+            if (batchCount > 0 && System.nanoTime() - batchStarted >= batchLingerNanos) {
+                request = takeBatch();
+            }
+        }
+        if (request != null) {
+            try {
+                send(request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void send(Request request) throws InterruptedException {
+
+        inFlight.acquire();
+
+        HttpPost post = new HttpPost(url);
+        post.setEntity(new ByteArrayEntity(request.payload, request.contentType));
+        long start = System.nanoTime();
+
+        client.execute(post, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse response) {
+                try {
+                    long completed = System.nanoTime();
+                    metrics.recordServiceTime(start, completed);
+                    if (response.getStatusLine().getStatusCode() >= 400) {
+                        metrics.recordError();
+                        System.out.println("REST service not available: " + response.getStatusLine());
+                    }
+                    else {
+                        for (int i = 0; i < request.intendedStarts.length; i++) {
+                            metrics.recordOrder(request.intendedStarts[i], completed, request.sizes[i]);
+                        }
+                    }
+                    EntityUtils.consumeQuietly(response.getEntity());
+                } finally {
+                    inFlight.release();
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                metrics.recordError();
+                System.out.println("Error on calling REST: " + e.getMessage());
+                inFlight.release();
+            }
+
+            @Override
+            public void cancelled() {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Sends any pending batch, waits for all outstanding requests to complete
+     * and shuts the client down.
+     */
+    @Override
+    public void close() throws IOException {
+        if (lingerTimer != null) {
+            lingerTimer.shutdownNow();
+        }
+        try {
+            Request request = null;
+            synchronized (this) {
+                if (batchCount > 0) {
+                    request = takeBatch();
+                }
+            }
+            if (request != null) {
+                send(request);
+            }
+            // Waiting for a connection, connecting and reading can each take up to the timeout
+            if (!inFlight.tryAcquire(maxInFlight, 3L * timeoutMs, TimeUnit.MILLISECONDS)) {
+                System.out.println((maxInFlight - inFlight.availablePermits()) +
+                        " REST requests did not complete before closing.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.gvenzl.sink;
+
+import com.gvenzl.pipeline.Order;
+
+/**
+ * Destination for generated orders, fed by the consumer threads of a
+ * {@link com.gvenzl.pipeline.SinkStage}. Each consumer thread gets its own
+ * instance unless the sink is thread safe and shared.
+ */
+public interface Sink {
+
+    void write(Order order) throws Exception;
+
+    /**
+     * Called by the consumer thread before it exits to persist pending orders.
+     */
+    default void flush() throws Exception {
+    }
+}
@@ -0,0 +1,121 @@
+package com.gvenzl.sink;
+
+import com.gvenzl.DatabasePool;
+import com.gvenzl.data.JsonBuffer;
+import com.gvenzl.data.SaleSerializer;
+import com.gvenzl.metrics.SinkMetrics;
+import com.gvenzl.pipeline.Order;
+import oracle.soda.OracleCollection;
+import oracle.soda.OracleDatabase;
+import oracle.soda.OracleDocument;
+import oracle.soda.OracleException;
+import oracle.soda.rdbms.OracleRDBMSClient;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Properties;
+
+/**
+ * Inserts the orders of one consumer thread as documents into the SODA
+ * collection {@code sodaCollection}. Documents are bulk inserted
+ * {@code batchSize} at a time and committed every {@code sodaCommitBatches}
+ * batches, over a connection borrowed from the {@link DatabasePool} for the flush.
+ */
+public class SodaSink implements Sink {
+
+    private static final OracleRDBMSClient CLIENT;
+    static {
+        Properties clientProps = new Properties();
+        clientProps.setProperty("oracle.soda.sharedMetadataCache", "true");
+        CLIENT = new OracleRDBMSClient(clientProps);
+    }
+
+    private final DatabasePool pool;
+    private final String collectionName;
+    private final SinkMetrics metrics;
+    private final int batchSize;
+    private final Order[] rows;
+    private final byte[][] contents;
+    private final SaleSerializer serializer;
+    private final JsonBuffer record = new JsonBuffer(4096);
+    private final ArrayList<OracleDocument> documents;
+    private int count = 0;
+
+    public SodaSink(Properties props, DatabasePool pool, SinkMetrics metrics) {
+        this.pool = pool;
+        this.metrics = metrics;
+        this.collectionName = props.getProperty("sodaCollection");
+        this.batchSize = Integer.valueOf(props.getProperty("batchSize"));
+        this.rows = new Order[batchSize * Integer.valueOf(props.getProperty("sodaCommitBatches", "1"))];
+        this.documents = new ArrayList<>(batchSize);
+        this.contents = new byte[rows.length][];
+        this.serializer = SaleSerializer.forFormat(props, "json");
+    }
+
+    /**
+     * Creates the collection unless it exists already, so that the consumers only have to open it.
+     */
+    public static void createCollection(Properties props, DatabasePool pool) throws SQLException, OracleException {
+        String name = props.getProperty("sodaCollection");
+        try (Connection conn = pool.getConnection()) {
+            OracleDatabase db = CLIENT.getDatabase(conn);
+            if (db.openCollection(name) == null) {
+                db.admin().createCollection(name);
+                conn.commit();
+                System.out.println("Created SODA collection " + name + ".");
+            }
+        }
+    }
+
+    @Override
+    public void write(Order order) throws SQLException, OracleException {
+        contents[count] = order.toByteArray(serializer, record);
+        rows[count++] = order;
+        if (count == rows.length) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException, OracleException {
+        if (count == 0) {
+            return;
+        }
+
+        try (Connection conn = pool.getConnection()) {
+            try {
+                OracleDatabase db = CLIENT.getDatabase(conn);
+                OracleCollection collection = db.openCollection(collectionName);
+                for (int from = 0; from < count; from += batchSize) {
+                    int to = Math.min(from + batchSize, count);
+                    documents.clear();
+                    for (int i = from; i < to; i++) {
+                        documents.add(db.createDocumentFromByteArray(contents[i]));
+                    }
+                    long start = System.nanoTime();
+                    collection.insert(documents.iterator());
+                    if (to == count) {
+                        conn.commit();
+                    }
+                    metrics.recordServiceTime(start, System.nanoTime());
+                }
+
+                long completed = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    metrics.recordOrder(rows[i].intendedStart, completed, contents[i].length);
+                }
+            } catch (SQLException | OracleException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                rows[i] = null;
+                contents[i] = null;
+            }
+            documents.clear();
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.gvenzl;
+
+import com.gvenzl.data.RandomSource;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+public class WorkerTest {
+
+    private static Properties props(long maxOrders) {
+        Properties props = new Properties();
+        props.setProperty("maxOrders", String.valueOf(maxOrders));
+        props.setProperty("waitInSeconds", "0");
+        props.setProperty("historicData", "true");
+        props.setProperty("historicStart", "2024-01-01");
+        props.setProperty("historicEnd", "2024-02-01");
+        props.setProperty("historicOrder", "ordered");
+        return props;
+    }
+
+    @Test
+    public void partitionWithoutMaxOrdersIsUnlimited() {
+        RunControl control = new RunControl(props(0), System.nanoTime());
+        assertEquals(RunControl.UNLIMITED, control.partition(0, 4));
+    }
+
+    @Test(timeout = 10_000)
+    public void fewerOrdersThanThreadsStopsEveryWorker() throws InterruptedException {
+        int threads = 4;
+        Properties props = props(2);
+        RunControl control = new RunControl(props, System.nanoTime());
+        RandomSource random = new RandomSource(42);
+
+        for (boolean bulkLoad : new boolean[] { false, true }) {
+            Thread[] workers = new Thread[threads];
+            for (int i = 0; i < threads; i++) {
+                workers[i] = new Thread(new Worker(props, Collections.emptyList(), control, random.split(), null,
+                        control.partition(i, threads), bulkLoad, null));
+                workers[i].start();
+            }
+            for (Thread t : workers) {
+                t.join();
+            }
+        }
+        assertEquals(4, control.getGenerated());
+    }
+}